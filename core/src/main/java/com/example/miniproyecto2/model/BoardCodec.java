@@ -0,0 +1,56 @@
+package com.example.miniproyecto2.model;
+
+/**
+ * Compact text encoding of 6x6 boards: one character per cell, row by row,
+ * {@code '1'} to {@code '6'} for numbers and {@code '0'} for empty cells.
+ * Decoding also accepts {@code '.'} for empty cells.
+ */
+public final class BoardCodec {
+
+    /**
+     * The length of an encoded board.
+     */
+    public static final int LENGTH = RegionLayout.CELLS;
+
+    private BoardCodec() {
+    }
+
+    /**
+     * Encodes a board.
+     *
+     * @param board the board, with zeros for empty cells.
+     * @return the encoded board.
+     */
+    public static String encode(int[][] board) {
+        char[] chars = new char[LENGTH];
+        for (int cell = 0; cell < LENGTH; cell++) {
+            chars[cell] = (char) ('0' + board[cell / RegionLayout.SIZE][cell % RegionLayout.SIZE]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Decodes a board.
+     *
+     * @param text the encoded board.
+     * @return the board, with zeros for empty cells.
+     * @throws IllegalArgumentException if the text is not a valid encoded board.
+     */
+    public static int[][] decode(String text) {
+        if (text == null || text.length() != LENGTH) {
+            throw new IllegalArgumentException("A board must have " + LENGTH + " cells");
+        }
+        int[][] board = new int[RegionLayout.SIZE][RegionLayout.SIZE];
+        for (int cell = 0; cell < LENGTH; cell++) {
+            char c = text.charAt(cell);
+            if (c == '.') {
+                continue;
+            }
+            if (c < '0' || c > '0' + RegionLayout.SIZE) {
+                throw new IllegalArgumentException("Invalid cell " + cell + ": '" + c + "'");
+            }
+            board[cell / RegionLayout.SIZE][cell % RegionLayout.SIZE] = c - '0';
+        }
+        return board;
+    }
+}
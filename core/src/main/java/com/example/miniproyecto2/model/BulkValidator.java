@@ -0,0 +1,215 @@
+package com.example.miniproyecto2.model;
+
+import java.util.BitSet;
+import java.util.stream.IntStream;
+
+/**
+ * Validates large batches of completed 6x6 boards packed into a
+ * {@code long[]}.
+ * <p>
+ * Each board takes {@link #LONGS_PER_BOARD} longs: cell {@code i} of the
+ * board (indexed as {@code row * 6 + col}) is stored in 3 bits, at bit
+ * {@code 3 * (i % 18)} of long {@code i / 18}. A board is valid when every
+ * cell holds a number from 1 to 6 and every region of the layout holds each
+ * number once.
+ * <p>
+ * The range of every cell is checked 18 cells at a time with SWAR tricks on
+ * each long. Regions are then checked with bitboards: each cell sets the bit
+ * of its number in the 6-bit slot of its row, its column and its box, so 36
+ * valid cells fill the 36 bits of each bitboard exactly, with no per-region
+ * loops, branches or allocations.
+ */
+public final class BulkValidator {
+
+    /**
+     * The number of longs each packed board takes.
+     */
+    public static final int LONGS_PER_BOARD = 2;
+
+    private static final int CELLS_PER_LONG = RegionLayout.CELLS / LONGS_PER_BOARD;
+    private static final long LANE_LOW_BITS;
+    private static final long LANES;
+
+    static {
+        long low = 0;
+        for (int lane = 0; lane < CELLS_PER_LONG; lane++) {
+            low |= 1L << (3 * lane);
+        }
+        LANE_LOW_BITS = low;
+        LANES = low * 7;
+    }
+
+    private static final long FULL = (1L << RegionLayout.CELLS) - 1;
+
+    private final int[] rowShifts = new int[RegionLayout.CELLS];
+    private final int[] colShifts = new int[RegionLayout.CELLS];
+    private final int[] boxShifts = new int[RegionLayout.CELLS];
+    private final int[] extraShifts = new int[RegionLayout.CELLS];
+    private final long[] extraMasks = new long[RegionLayout.CELLS];
+    private final long extraFull;
+
+    /**
+     * Constructs a new BulkValidator for the given layout. Every cell may be
+     * in at most one region besides its row, column and box.
+     *
+     * @param layout the regions of the boards.
+     * @throws IllegalArgumentException if a cell is in more than one extra
+     *                                  region, or there are too many extra
+     *                                  regions.
+     */
+    public BulkValidator(RegionLayout layout) {
+        int extraRegions = layout.getRegionCount() - 3 * RegionLayout.SIZE;
+        if (extraRegions * RegionLayout.SIZE > Long.SIZE - 1) {
+            throw new IllegalArgumentException("Too many extra regions: " + extraRegions);
+        }
+        for (int cell = 0; cell < RegionLayout.CELLS; cell++) {
+            int row = cell / RegionLayout.SIZE;
+            int col = cell % RegionLayout.SIZE;
+            rowShifts[cell] = row * RegionLayout.SIZE - 1;
+            colShifts[cell] = col * RegionLayout.SIZE - 1;
+            boxShifts[cell] = layout.getBox(row, col) * RegionLayout.SIZE - 1;
+        }
+        for (int extra = 0; extra < extraRegions; extra++) {
+            for (int cell : layout.getRegion(3 * RegionLayout.SIZE + extra)) {
+                if (extraMasks[cell] != 0) {
+                    throw new IllegalArgumentException("Cell " + cell + " is in more than one extra region");
+                }
+                extraShifts[cell] = extra * RegionLayout.SIZE - 1;
+                extraMasks[cell] = -1L;
+            }
+        }
+        this.extraFull = (1L << (extraRegions * RegionLayout.SIZE)) - 1;
+    }
+
+    /**
+     * Packs a board into the given array.
+     *
+     * @param board the board to pack.
+     * @param boards the array of packed boards.
+     * @param index the index of the board in the array.
+     */
+    public static void pack(int[][] board, long[] boards, int index) {
+        int offset = index * LONGS_PER_BOARD;
+        boards[offset] = 0;
+        boards[offset + 1] = 0;
+        for (int cell = 0; cell < RegionLayout.CELLS; cell++) {
+            long number = board[cell / RegionLayout.SIZE][cell % RegionLayout.SIZE] & 7;
+            boards[offset + cell / CELLS_PER_LONG] |= number << (3 * (cell % CELLS_PER_LONG));
+        }
+    }
+
+    /**
+     * Unpacks a board from the given array.
+     *
+     * @param boards the array of packed boards.
+     * @param index the index of the board in the array.
+     * @return the board.
+     */
+    public static int[][] unpack(long[] boards, int index) {
+        int[][] board = new int[RegionLayout.SIZE][RegionLayout.SIZE];
+        for (int cell = 0; cell < RegionLayout.CELLS; cell++) {
+            long word = boards[index * LONGS_PER_BOARD + cell / CELLS_PER_LONG];
+            board[cell / RegionLayout.SIZE][cell % RegionLayout.SIZE] =
+                    (int) (word >>> (3 * (cell % CELLS_PER_LONG))) & 7;
+        }
+        return board;
+    }
+
+    /**
+     * Checks if a packed board is a valid solution.
+     *
+     * @param boards the array of packed boards.
+     * @param index the index of the board in the array.
+     * @return true if the board is valid, false otherwise.
+     */
+    public boolean isValid(long[] boards, int index) {
+        int offset = index * LONGS_PER_BOARD;
+        long low = boards[offset];
+        long high = boards[offset + 1];
+        if (!isInRange(low) || !isInRange(high)) {
+            return false;
+        }
+        long rows = 0;
+        long cols = 0;
+        long boxes = 0;
+        long extras = 0;
+        for (int lane = 0; lane < CELLS_PER_LONG; lane++) {
+            int shift = 3 * lane;
+            int cell = lane;
+            int number = (int) (low >>> shift) & 7;
+            rows |= 1L << (rowShifts[cell] + number);
+            cols |= 1L << (colShifts[cell] + number);
+            boxes |= 1L << (boxShifts[cell] + number);
+            extras |= (1L << (extraShifts[cell] + number)) & extraMasks[cell];
+
+            cell = lane + CELLS_PER_LONG;
+            number = (int) (high >>> shift) & 7;
+            rows |= 1L << (rowShifts[cell] + number);
+            cols |= 1L << (colShifts[cell] + number);
+            boxes |= 1L << (boxShifts[cell] + number);
+            extras |= (1L << (extraShifts[cell] + number)) & extraMasks[cell];
+        }
+        return (rows & cols & boxes) == FULL && extras == extraFull;
+    }
+
+    /**
+     * Validates the first boards of the array.
+     *
+     * @param boards the array of packed boards.
+     * @param count the number of boards to validate.
+     * @return the set of indices of the valid boards.
+     */
+    public BitSet validate(long[] boards, int count) {
+        long[] result = new long[(count + 63) / 64];
+        validate(boards, 0, count, result);
+        return BitSet.valueOf(result);
+    }
+
+    /**
+     * Validates the first boards of the array, splitting the work across the
+     * common fork-join pool.
+     *
+     * @param boards the array of packed boards.
+     * @param count the number of boards to validate.
+     * @return the set of indices of the valid boards.
+     */
+    public BitSet validateParallel(long[] boards, int count) {
+        long[] result = new long[(count + 63) / 64];
+        IntStream.range(0, result.length).parallel().forEach(word ->
+                validate(boards, word * 64, Math.min(count, word * 64 + 64), result));
+        return BitSet.valueOf(result);
+    }
+
+    /**
+     * Validates a range of boards, setting the bit of each valid board in the
+     * result. Bits of invalid boards are cleared. Does not allocate.
+     *
+     * @param boards the array of packed boards.
+     * @param from the index of the first board to validate.
+     * @param to the index after the last board to validate.
+     * @param result the result bitset, as in {@link BitSet#toLongArray()}.
+     */
+    public void validate(long[] boards, int from, int to, long[] result) {
+        for (int index = from; index < to; index++) {
+            long bit = 1L << index;
+            if (isValid(boards, index)) {
+                result[index >>> 6] |= bit;
+            } else {
+                result[index >>> 6] &= ~bit;
+            }
+        }
+    }
+
+    /**
+     * Checks that every 3-bit lane of a word holds a number from 1 to 6, and
+     * that the bits above the lanes are clear.
+     *
+     * @param word the word holding the lanes.
+     * @return true if every lane is in range, false otherwise.
+     */
+    private static boolean isInRange(long word) {
+        boolean hasZero = ((word - LANE_LOW_BITS) & ~word & (LANE_LOW_BITS << 2)) != 0;
+        boolean hasSeven = (word & (word >>> 1) & (word >>> 2) & LANE_LOW_BITS) != 0;
+        return (word & ~LANES) == 0 && !hasZero && !hasSeven;
+    }
+}
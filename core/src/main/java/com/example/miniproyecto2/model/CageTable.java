@@ -0,0 +1,57 @@
+package com.example.miniproyecto2.model;
+
+/**
+ * Precomputed lookup table of the numbers allowed in a Killer cage.
+ * For every cage size, target sum and set of numbers already placed in the
+ * cage, the table holds the numbers that still appear in some combination
+ * of distinct numbers from 1 to 6 with that size and sum. Masks use bit
+ * {@code n} for number {@code n}, like {@link Solver}.
+ */
+final class CageTable {
+
+    /**
+     * The largest possible cage sum, 1 + 2 + ... + 6.
+     */
+    static final int MAX_SUM = 21;
+
+    private static final byte[] ALLOWED = new byte[(RegionLayout.SIZE + 1) * (MAX_SUM + 1) * 64];
+
+    static {
+        for (int combination = 1; combination < 64; combination++) {
+            int mask = combination << 1;
+            int size = Integer.bitCount(combination);
+            int sum = 0;
+            for (int number = 1; number <= RegionLayout.SIZE; number++) {
+                if ((mask & (1 << number)) != 0) {
+                    sum += number;
+                }
+            }
+            for (int used = combination; ; used = (used - 1) & combination) {
+                ALLOWED[index(size, sum, used << 1)] |= (byte) (mask & ~(used << 1));
+                if (used == 0) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private CageTable() {
+    }
+
+    /**
+     * Returns the numbers that can still be placed in a cage.
+     *
+     * @param size the number of cells of the cage.
+     * @param sum the target sum of the cage.
+     * @param used the bitmask of numbers already placed in the cage.
+     * @return the bitmask of allowed numbers, empty if the cage cannot be
+     * completed.
+     */
+    static int allowed(int size, int sum, int used) {
+        return ALLOWED[index(size, sum, used)] & 0xFF;
+    }
+
+    private static int index(int size, int sum, int used) {
+        return ((size * (MAX_SUM + 1) + sum) << 6) | ((used >> 1) & 63);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.miniproyecto2.model;
+
+import java.util.Arrays;
+
+/**
+ * The cages of a Killer Sudoku: groups of cells whose numbers are distinct
+ * and add up to a target sum. Cells are indexed as {@code row * 6 + col}.
+ */
+public final class Cages {
+
+    /**
+     * The cages of a game without Killer rules.
+     */
+    public static final Cages NONE = new Cages(new int[0][], new int[0]);
+
+    private final int[][] cells;
+    private final int[] sums;
+    private final int[] cageOf;
+
+    /**
+     * Constructs a new Cages instance. The arrays are owned by the instance
+     * and must not be modified afterwards.
+     *
+     * @param cells the cell indices of each cage.
+     * @param sums the target sum of each cage.
+     */
+    Cages(int[][] cells, int[] sums) {
+        this.cells = cells;
+        this.sums = sums;
+        this.cageOf = new int[RegionLayout.CELLS];
+        Arrays.fill(cageOf, -1);
+        for (int cage = 0; cage < cells.length; cage++) {
+            for (int cell : cells[cage]) {
+                cageOf[cell] = cage;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cages.
+     *
+     * @return the number of cages.
+     */
+    public int getCageCount() {
+        return cells.length;
+    }
+
+    /**
+     * Returns the cage of a cell.
+     *
+     * @param cell the cell index.
+     * @return the cage index, or -1 if the cell is in no cage.
+     */
+    public int getCage(int cell) {
+        return cageOf[cell];
+    }
+
+    /**
+     * Returns the cells of a cage. The returned array must not be modified.
+     *
+     * @param cage the cage index.
+     * @return the cell indices of the cage, in increasing order.
+     */
+    public int[] getCells(int cage) {
+        return cells[cage];
+    }
+
+    /**
+     * Returns the target sum of a cage.
+     *
+     * @param cage the cage index.
+     * @return the target sum.
+     */
+    public int getSum(int cage) {
+        return sums[cage];
+    }
+
+    /**
+     * Returns the numbers that can still be placed in a cage, looked up in
+     * the precomputed {@link CageTable}.
+     *
+     * @param cage the cage index.
+     * @param used the bitmask of numbers already placed in the other cells
+     *             of the cage.
+     * @return the bitmask of allowed numbers.
+     */
+    int allowed(int cage, int used) {
+        return CageTable.allowed(cells[cage].length, sums[cage], used);
+    }
+}
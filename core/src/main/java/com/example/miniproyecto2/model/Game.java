@@ -0,0 +1,585 @@
+package com.example.miniproyecto2.model;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+
+public class Game implements IGame {
+
+    /**
+     * The number of events buffered for each subscriber before new ones are
+     * dropped for it.
+     */
+    static final int EVENT_BUFFER_CAPACITY = 64;
+    private static final ExecutorService EVENT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "game-events");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Variant variant;
+    private final RegionLayout layout;
+    private int[][] currentBoard;
+    private int[][] currentAnswer;
+    private Cages cages = Cages.NONE;
+    private int[] cageSums;
+    private int[] cageFilled;
+    private int[] cageUsed;
+    private int[] cageCounts;
+    private long seed;
+    private long rulesKey;
+    private long hash;
+    private int helpUsed;
+    private int generation;
+    private final SubmissionPublisher<GameEvent> events =
+            new SubmissionPublisher<>(EVENT_EXECUTOR, EVENT_BUFFER_CAPACITY);
+    private final HintSpeculator hintSpeculator = new HintSpeculator();
+    private PropagationMonitor monitor;
+
+    /**
+     * Constructs a new classic Game instance, selects a random board, and sets
+     * the initial help count to zero.
+     */
+    public Game() {
+        this(Variant.CLASSIC);
+    }
+
+    /**
+     * Constructs a new Game instance of the given variant, selects a random
+     * board, and sets the initial help count to zero.
+     *
+     * @param variant the rule variant to play.
+     */
+    public Game(Variant variant) {
+        this(variant, true);
+    }
+
+    /**
+     * Returns a new Game instance of the given variant with an empty board,
+     * without generating a puzzle. Call {@link #initializeBoard()} before
+     * playing, for example on the thread of a {@link GameService}.
+     *
+     * @param variant the rule variant to play.
+     * @return the game.
+     */
+    public static Game withEmptyBoard(Variant variant) {
+        return new Game(variant, false);
+    }
+
+    private Game(Variant variant, boolean initialize) {
+        this.variant = variant;
+        this.layout = variant.getLayout();
+        if (initialize) {
+            initializeBoard();
+        } else {
+            currentAnswer = new int[RegionLayout.SIZE][RegionLayout.SIZE];
+            rulesKey = Zobrist.rulesKey(variant, 0);
+            clearBoard();
+        }
+        helpUsed = 0;
+    }
+
+    /**
+     * Selects a random board and its corresponding answer.
+     */
+    @Override
+    public void initializeBoard() {
+        initializeBoard(new Random().nextLong());
+    }
+
+    /**
+     * Selects the board generated from the given seed and its corresponding
+     * answer.
+     *
+     * @param seed the seed of the board.
+     */
+    @Override
+    public void initializeBoard(long seed) {
+        Puzzle puzzle = PuzzleGenerator.get(variant, seed);
+        hintSpeculator.discard();
+        this.seed = seed;
+        currentBoard = puzzle.getBoard();
+        currentAnswer = puzzle.getAnswer();
+        cages = puzzle.getCages();
+        rulesKey = Zobrist.rulesKey(variant, seed);
+        hash = Zobrist.hash(currentBoard, rulesKey);
+        resetCageTotals();
+        monitor = new PropagationMonitor(layout, cages, currentBoard);
+        generation++;
+        publish(GameEvent.Type.RESTART, -1, -1, 0);
+    }
+
+    /**
+     * Returns the seed of the current board.
+     *
+     * @return the seed.
+     */
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the rule variant of the game.
+     *
+     * @return the variant.
+     */
+    public Variant getVariant() {
+        return variant;
+    }
+
+    /**
+     * Returns the regions of the board.
+     *
+     * @return the region layout.
+     */
+    public RegionLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Returns the Zobrist hash of the current board state. Equal board states
+     * of the same puzzle rules have equal hashes.
+     *
+     * @return the hash.
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Returns what the solver knows about the current board state, answered
+     * from the shared {@link SolveCache} when the state was seen before.
+     *
+     * @return the solve result.
+     */
+    public SolveResult analyze() {
+        return SolveCache.SHARED.get(hash, key -> Solver.analyze(currentBoard, layout, cages));
+    }
+
+    /**
+     * Returns the generation of the current board, which increases every time
+     * a new board is selected.
+     *
+     * @return the board generation.
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the Killer cages of the current board.
+     *
+     * @return the cages, or {@link Cages#NONE} if the variant has none.
+     */
+    public Cages getCages() {
+        return cages;
+    }
+
+    /**
+     * Returns the current board being played.
+     *
+     * @return the current board.
+     */
+    public int[][] getBoard() {
+        return currentBoard;
+    }
+
+    /**
+     * Returns the answer to the current board.
+     *
+     * @return the answer board.
+     */
+    public int[][] getAnswerBoard() {
+        return currentAnswer;
+    }
+
+    /**
+     * Returns a copy of the current board, safe to read from another thread.
+     *
+     * @return a snapshot of the current board.
+     */
+    public int[][] copyBoard() {
+        return Puzzle.copy(currentBoard);
+    }
+
+    /**
+     * Finds the next hint: the correct number for a cell that has a single
+     * candidate left, or else for the first empty cell. The hint is taken
+     * from the speculation started by {@link #speculateHint()} when it was
+     * computed for the current board state and is ready.
+     *
+     * @return the hint, or null if the board has no empty cells.
+     */
+    public Hint nextHint() {
+        return hintSpeculator.take(hash, () -> findHint(currentBoard, currentAnswer, analyze().getNextStep()));
+    }
+
+    /**
+     * Starts computing the hint of the current board state on a background
+     * thread, from a snapshot of the board, so that {@link #nextHint()} can
+     * answer at once. The speculation is discarded when the board changes.
+     */
+    public void speculateHint() {
+        long snapshotHash = hash;
+        int[][] snapshot = copyBoard();
+        int[][] answer = currentAnswer;
+        RegionLayout snapshotLayout = layout;
+        Cages snapshotCages = cages;
+        hintSpeculator.speculate(snapshotHash, () -> findHint(snapshot, answer, SolveCache.SHARED.get(
+                snapshotHash, key -> Solver.analyze(snapshot, snapshotLayout, snapshotCages)).getNextStep()));
+    }
+
+    /**
+     * Returns the hit, miss and wasted-work counters of the hint speculation.
+     *
+     * @return the hint speculator of this game.
+     */
+    public HintSpeculator getHintSpeculator() {
+        return hintSpeculator;
+    }
+
+    /**
+     * Chooses the hint for a board state: the next logical step when it
+     * agrees with the answer, or else the answer of the first empty cell.
+     *
+     * @param board the board state.
+     * @param answer the answer of the puzzle.
+     * @param step the next logical step of the board state, or null.
+     * @return the hint, or null if the board has no empty cells.
+     */
+    static Hint findHint(int[][] board, int[][] answer, Hint step) {
+        if (step != null && answer[step.row()][step.col()] == step.number()) {
+            return step;
+        }
+        for (int row = 0; row < 6; row++) {
+            for (int col = 0; col < 6; col++) {
+                if (board[row][col] == 0) {
+                    return new Hint(row, col, answer[row][col]);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Validates if the move is valid: no other cell in a region of this cell
+     * holds the number, and the number can still complete the cage of the
+     * cell, if it has one.
+     *
+     * @param number the number to be placed.
+     * @param row the row index.
+     * @param col the column index.
+     * @return true if the move is valid, false otherwise.
+     */
+    public boolean isValidMove(int number, int row, int col) {
+        int cell = row * RegionLayout.SIZE + col;
+        for (int i = layout.peerStart(cell), end = layout.peerEnd(cell); i < end; i++) {
+            if (currentBoard[layout.peerRow(i)][layout.peerCol(i)] == number) {
+                return false;
+            }
+        }
+        int cage = cages.getCage(cell);
+        if (cage >= 0) {
+            int used = cageUsed[cage] & ~(1 << currentBoard[row][col]);
+            return (cages.allowed(cage, used) & (1 << number)) != 0;
+        }
+        return true;
+    }
+
+    /**
+     * Makes a move on the board.
+     *
+     * @param number the number to place.
+     * @param row the row index.
+     * @param col the column index.
+     */
+    @Override
+    public void makeMove(String number, int row, int col) {
+        place(Integer.parseInt(number), row, col);
+        publishMove(GameEvent.Type.MOVE, row, col);
+    }
+
+    /**
+     * Removes the number of a cell.
+     *
+     * @param row the row index.
+     * @param col the column index.
+     */
+    @Override
+    public void clearCell(int row, int col) {
+        if (currentBoard[row][col] != 0) {
+            place(0, row, col);
+            publishMove(GameEvent.Type.MOVE, row, col);
+        }
+    }
+
+    /**
+     * Looks for a dead end: a cell that can no longer be filled, a number
+     * that clashes with its peers or cage, or a region with no room left for
+     * a missing number, either now or after filling in every cell that has a
+     * single candidate left. The candidates are kept up to date on every
+     * move, so the check fits in a keystroke. A dead end found is certain;
+     * some unsolvable boards are not detected.
+     *
+     * @return the index of a cell where the dead end shows, as
+     * {@code row * 6 + col}, or -1 if none was found.
+     */
+    public int findDeadEnd() {
+        return monitor.findDeadEnd();
+    }
+
+    /**
+     * Places the number of a hint on the board and counts the help as used.
+     *
+     * @param hint the hint to apply.
+     */
+    public void applyHint(Hint hint) {
+        place(hint.number(), hint.row(), hint.col());
+        helpUsed++;
+        publishMove(GameEvent.Type.HINT, hint.row(), hint.col());
+    }
+
+    /**
+     * Places a number on the board and updates the totals of its cage and the
+     * candidates of its peers.
+     *
+     * @param number the number to place.
+     * @param row the row index.
+     * @param col the column index.
+     */
+    private void place(int number, int row, int col) {
+        int previous = currentBoard[row][col];
+        currentBoard[row][col] = number;
+        int cell = row * RegionLayout.SIZE + col;
+        hash ^= Zobrist.key(cell, previous) ^ Zobrist.key(cell, number);
+        hintSpeculator.discardUnless(hash);
+        if (previous != 0) {
+            monitor.unassign(cell);
+        }
+        if (number != 0) {
+            monitor.assign(cell, number);
+        }
+        updateCageTotals(cell, previous, number);
+    }
+
+    /**
+     * Returns the publisher of the events of this game. Each subscriber gets
+     * its own bounded buffer; when a subscriber falls behind and its buffer
+     * is full, new events are dropped for that subscriber only, so a slow
+     * subscriber never stalls a move. Events are meant for observers such
+     * as spectators, recorders or metrics; state a player must see should be
+     * read from the game itself.
+     *
+     * @return the event publisher.
+     */
+    public Flow.Publisher<GameEvent> events() {
+        return events;
+    }
+
+    /**
+     * Stops publishing events and completes every subscription. Like every
+     * other operation on the game, it must run on the thread that owns it,
+     * such as the thread of a {@link GameService}.
+     */
+    public void close() {
+        hintSpeculator.discard();
+        events.close();
+    }
+
+    /**
+     * Publishes the event of a number placed on the board, followed by a game
+     * over event if it completed the board correctly.
+     *
+     * @param type the type of the event.
+     * @param row the row index.
+     * @param col the column index.
+     */
+    private void publishMove(GameEvent.Type type, int row, int col) {
+        if (!events.hasSubscribers()) {
+            return;
+        }
+        publish(type, row, col, currentBoard[row][col]);
+        if (isGameOver()) {
+            publish(GameEvent.Type.GAME_OVER, -1, -1, 0);
+        }
+    }
+
+    /**
+     * Offers an event to the subscribers without blocking, dropping it for
+     * subscribers whose buffer is full.
+     *
+     * @param type the type of the event.
+     * @param row the row index, or -1 if none.
+     * @param col the column index, or -1 if none.
+     * @param number the number placed, or 0 if none.
+     */
+    private void publish(GameEvent.Type type, int row, int col, int number) {
+        if (events.hasSubscribers()) {
+            events.offer(new GameEvent(type, generation, row, col, number), null);
+        }
+    }
+
+    /**
+     * Prints the current board to the console.
+     */
+    public void printCurrentBoard() {
+        for (int i = 0; i < currentBoard.length; i++) {
+            for (int j = 0; j < currentBoard[i].length; j++) {
+                System.out.print(currentBoard[i][j] + " ");
+            }
+            System.out.println();
+        }
+        System.out.println("----------------------------");
+    }
+
+
+    /**
+     * Checks if the game is over by verifying if the board is full,
+     * all regions are valid, and every cage adds up to its sum without
+     * repeating a number.
+     *
+     * @return true if the game is over, false otherwise.
+     */
+    @Override
+    public boolean isGameOver() {
+        if (!isBoardFull()) {
+            return false;
+        }
+
+        for (int region = 0; region < layout.getRegionCount(); region++) {
+            if (!isRegionValid(layout.getRegion(region))) {
+                return false;
+            }
+        }
+
+        for (int cage = 0; cage < cages.getCageCount(); cage++) {
+            int size = cages.getCells(cage).length;
+            if (cageFilled[cage] != size || Integer.bitCount(cageUsed[cage]) != size
+                    || cageSums[cage] != cages.getSum(cage)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if a region is valid by ensuring all numbers from 1 to 6
+     * appear only once.
+     *
+     * @param region the cell indices of the region.
+     * @return true if the region is valid, false otherwise.
+     */
+    private boolean isRegionValid(int[] region) {
+        int seen = 0;
+        for (int cell : region) {
+            int number = currentBoard[cell / RegionLayout.SIZE][cell % RegionLayout.SIZE];
+            if (number != 0) {
+                int bit = 1 << number;
+                if ((seen & bit) != 0) {
+                    return false;
+                }
+                seen |= bit;
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * Checks if the board is full.
+     *
+     * @return true if the board is full, false otherwise.
+     */
+    public boolean isBoardFull() {
+        for (int row = 0; row < 6; row++) {
+            for (int col = 0; col < 6; col++) {
+                if (currentBoard[row][col] == 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Increments the help used counter.
+     */
+    public void incrementHelpUsed() {
+        helpUsed++;
+    }
+
+    /**
+     * Gets the number of helps used.
+     *
+     * @return the number of helps used.
+     */
+    @Override
+    public int getHelpUsed() {
+        return helpUsed;
+    }
+
+    /**
+     * Resets the help used counter to zero.
+     */
+    public void setHelpUsed() {
+        this.helpUsed = 0;
+    }
+
+    /**
+     * Clears the board by resetting it to a zero-filled state.
+     */
+    public void clearBoard() {
+        currentBoard = new int[6][6];
+        hash = rulesKey;
+        hintSpeculator.discardUnless(hash);
+        resetCageTotals();
+        monitor = new PropagationMonitor(layout, cages, currentBoard);
+    }
+
+    /**
+     * Recomputes the running sum, filled count, used numbers and the count of
+     * each number of every cage from the current board.
+     */
+    private void resetCageTotals() {
+        cageSums = new int[cages.getCageCount()];
+        cageFilled = new int[cages.getCageCount()];
+        cageUsed = new int[cages.getCageCount()];
+        cageCounts = new int[cages.getCageCount() * 7];
+        for (int cell = 0; cell < RegionLayout.CELLS; cell++) {
+            updateCageTotals(cell, 0, currentBoard[cell / RegionLayout.SIZE][cell % RegionLayout.SIZE]);
+        }
+    }
+
+    /**
+     * Updates the running totals of the cage of a cell after its number
+     * changes.
+     *
+     * @param cell the cell index.
+     * @param previous the previous number of the cell, or 0 if it was empty.
+     * @param number the new number of the cell, or 0 if it is now empty.
+     */
+    private void updateCageTotals(int cell, int previous, int number) {
+        int cage = cages.getCage(cell);
+        if (cage < 0) {
+            return;
+        }
+        if (previous != 0) {
+            cageSums[cage] -= previous;
+            cageFilled[cage]--;
+            if (--cageCounts[cage * 7 + previous] == 0) {
+                cageUsed[cage] &= ~(1 << previous);
+            }
+        }
+        if (number != 0) {
+            cageSums[cage] += number;
+            cageFilled[cage]++;
+            cageCounts[cage * 7 + number]++;
+            cageUsed[cage] |= 1 << number;
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.example.miniproyecto2.model;
+
+/**
+ * Something that happened in a {@link Game}, published to the subscribers of
+ * {@link Game#events()}.
+ *
+ * @param type the kind of event.
+ * @param generation the generation of the board the event belongs to, which
+ *                   increases every time a new board is selected.
+ * @param row the row index of the cell involved, or -1 if none.
+ * @param col the column index of the cell involved, or -1 if none.
+ * @param number the number placed, or 0 if none.
+ */
+public record GameEvent(Type type, int generation, int row, int col, int number) {
+
+    /**
+     * The kinds of game events.
+     */
+    public enum Type {
+        /**
+         * The player placed a number on the board.
+         */
+        MOVE,
+        /**
+         * A hint placed a number on the board.
+         */
+        HINT,
+        /**
+         * A new board was selected.
+         */
+        RESTART,
+        /**
+         * The board was completed correctly.
+         */
+        GAME_OVER
+    }
+}
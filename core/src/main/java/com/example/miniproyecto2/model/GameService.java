@@ -0,0 +1,111 @@
+package com.example.miniproyecto2.model;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Runs operations on a {@link Game} away from the JavaFX application thread.
+ * All operations are executed in submission order on a single dedicated thread,
+ * so the game never needs to be synchronized and callers only ever see
+ * completed results through {@link CompletableFuture}s.
+ */
+public class GameService {
+
+    private final Game game;
+    private final ExecutorService executor;
+    private final Map<Object, CompletableFuture<?>> latestByKey = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new GameService for the given game, backed by its own
+     * daemon compute thread.
+     *
+     * @param game the Game instance operated on by this service.
+     */
+    public GameService(Game game) {
+        this.game = game;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-model");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Submits an operation to be executed on the compute thread.
+     *
+     * @param operation the operation to run against the game.
+     * @param <T> the type of the result.
+     * @return a future completed with the result of the operation.
+     */
+    public <T> CompletableFuture<T> submit(Function<Game, T> operation) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task = executor.submit(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                result.complete(operation.apply(game));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        result.whenComplete((value, error) -> {
+            if (error != null) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Submits an operation that must finish before the given deadline. If the
+     * deadline passes, the returned future fails with a
+     * {@link java.util.concurrent.TimeoutException} and the operation is
+     * cancelled.
+     *
+     * @param operation the operation to run against the game.
+     * @param timeout the maximum time to wait for the result.
+     * @param unit the unit of the timeout.
+     * @param <T> the type of the result.
+     * @return a future completed with the result of the operation.
+     */
+    public <T> CompletableFuture<T> submit(Function<Game, T> operation, long timeout, TimeUnit unit) {
+        CompletableFuture<T> result = submit(operation);
+        result.orTimeout(timeout, unit);
+        return result;
+    }
+
+    /**
+     * Submits an operation that replaces any earlier operation submitted with
+     * the same key. If the earlier operation has not finished yet, it is
+     * cancelled.
+     *
+     * @param key the key identifying the operation, such as a board cell.
+     * @param operation the operation to run against the game.
+     * @param <T> the type of the result.
+     * @return a future completed with the result of the operation.
+     */
+    public <T> CompletableFuture<T> submitLatest(Object key, Function<Game, T> operation) {
+        CompletableFuture<T> result = submit(operation);
+        CompletableFuture<?> previous = latestByKey.put(key, result);
+        if (previous != null) {
+            previous.cancel(true);
+        }
+        result.whenComplete((value, error) -> latestByKey.remove(key, result));
+        return result;
+    }
+
+    /**
+     * Stops the compute thread. Operations that have not started yet are
+     * discarded.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
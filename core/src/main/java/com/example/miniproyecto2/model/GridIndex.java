@@ -0,0 +1,540 @@
+package com.example.miniproyecto2.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Index of every valid 6x6 Sudoku grid with 2x3 blocks.
+ * <p>
+ * Relabeling the numbers of a grid gives another grid, so every grid is a
+ * relabeling of exactly one canonical grid, whose first row is
+ * {@code 1 2 3 4 5 6}. There are {@value #CANONICAL_GRIDS} canonical grids
+ * and 720 relabelings of each, {@value #GRID_COUNT} grids in all. Rank
+ * {@code r} is the relabeling of rank {@code r % 720} of the canonical grid
+ * of rank {@code r / 720}; the relabeling is the first row of the grid, and
+ * is ranked in lexicographic order.
+ * <p>
+ * Canonical grids are packed in 60 bits each: rows 1 to 4, first five cells
+ * of each, 3 bits per cell. The first row is fixed, and the last row and
+ * column follow from the others. They are enumerated in parallel on the
+ * common {@link ForkJoinPool}, sorted, and stored in a file that is memory
+ * mapped on later runs, once its contents are checked. Looking up a grid by rank, and so sampling a
+ * uniformly random grid, takes constant time. Looking up the rank of a grid
+ * takes a binary search over the canonical grids, 16 probes.
+ */
+public final class GridIndex {
+
+    /**
+     * The number of canonical grids.
+     */
+    public static final int CANONICAL_GRIDS = 39_168;
+
+    /**
+     * The number of grids.
+     */
+    public static final long GRID_COUNT = CANONICAL_GRIDS * 720L;
+
+    private static final String FILE_PROPERTY = "miniproyecto2.grids";
+    private static final String FILE_NAME = "miniproyecto2-grids.bin";
+    private static final String CACHE_DIRECTORY = ".cache/miniproyecto2";
+    private static final long MAGIC = 0x4752494449445831L;
+    private static final int HEADER_BYTES = 2 * Long.BYTES;
+    private static final int RELABELINGS = 720;
+    private static final int PACKED_ROWS = 4;
+    private static final int PACKED_COLS = RegionLayout.SIZE - 1;
+    private static final int ALL_NUMBERS = 0b1111110;
+    private static final int[] FACTORIALS = {1, 1, 2, 6, 24, 120, 720};
+
+    private final LongBuffer grids;
+
+    private GridIndex(LongBuffer grids) {
+        this.grids = grids;
+    }
+
+    /**
+     * Returns the index shared by the application. On first use it is mapped
+     * from its file, which is created if it is missing or damaged. The file
+     * is {@code .cache/miniproyecto2/miniproyecto2-grids.bin} in the home
+     * directory of the user, unless the {@code miniproyecto2.grids} system
+     * property names another one. If the file cannot be written, the index is
+     * kept in memory instead.
+     *
+     * @return the shared index.
+     */
+    public static GridIndex shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Maps an index from the given file, enumerating the grids and writing
+     * the file again if it is missing or damaged. The grids of the file are
+     * checked before they are used: any other process may have written it.
+     *
+     * @param file the file of the index.
+     * @return the index.
+     * @throws IOException if the file cannot be read or written, or is still
+     *                     damaged after it is written.
+     */
+    public static GridIndex open(Path file) throws IOException {
+        if (isValidFile(file)) {
+            LongBuffer grids = map(file);
+            if (hasValidGrids(grids)) {
+                return new GridIndex(grids);
+            }
+        }
+        write(file, enumerate());
+        LongBuffer grids = map(file);
+        if (!hasValidGrids(grids)) {
+            throw new IOException("Damaged grid index " + file);
+        }
+        return new GridIndex(grids);
+    }
+
+    /**
+     * Enumerates every canonical grid on the common fork-join pool.
+     *
+     * @return the packed canonical grids, in increasing order.
+     * @throws IllegalStateException if the enumeration does not find every grid.
+     */
+    static long[] enumerate() {
+        int[] cells = new int[RegionLayout.CELLS];
+        int[] rows = new int[RegionLayout.SIZE];
+        int[] cols = new int[RegionLayout.SIZE];
+        int[] boxes = new int[RegionLayout.SIZE];
+        for (int col = 0; col < RegionLayout.SIZE; col++) {
+            int bit = 1 << (col + 1);
+            cells[col] = col + 1;
+            rows[0] |= bit;
+            cols[col] |= bit;
+            boxes[box(0, col)] |= bit;
+        }
+        long[] packed = ForkJoinPool.commonPool().invoke(
+                new EnumerateTask(RegionLayout.SIZE, cells, rows, cols, boxes));
+        if (packed.length != CANONICAL_GRIDS) {
+            throw new IllegalStateException("Enumerated " + packed.length + " grids, expected " + CANONICAL_GRIDS);
+        }
+        Arrays.parallelSort(packed);
+        return packed;
+    }
+
+    /**
+     * Returns the number of grids in the index.
+     *
+     * @return the number of grids.
+     */
+    public long size() {
+        return (long) grids.limit() * RELABELINGS;
+    }
+
+    /**
+     * Returns the grid of the given rank.
+     *
+     * @param rank the rank of the grid, from 0 to {@link #size()} - 1.
+     * @return the grid.
+     * @throws IndexOutOfBoundsException if the rank is out of range.
+     */
+    public int[][] grid(long rank) {
+        if (rank < 0 || rank >= size()) {
+            throw new IndexOutOfBoundsException("Rank " + rank + " out of range");
+        }
+        int[] labels = relabeling((int) (rank % RELABELINGS));
+        int[][] grid = unpack(grids.get((int) (rank / RELABELINGS)));
+        for (int[] row : grid) {
+            for (int col = 0; col < RegionLayout.SIZE; col++) {
+                row[col] = labels[row[col] - 1];
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Returns a grid picked uniformly at random.
+     *
+     * @param random the source of randomness.
+     * @return the grid.
+     */
+    public int[][] sample(Random random) {
+        return grid(random.nextLong(size()));
+    }
+
+    /**
+     * Returns the rank of a grid.
+     *
+     * @param grid the grid.
+     * @return the rank of the grid, or -1 if it is not a valid full grid.
+     */
+    public long rank(int[][] grid) {
+        int[] firstRow = grid[0];
+        int[] inverse = new int[RegionLayout.SIZE + 1];
+        for (int col = 0; col < RegionLayout.SIZE; col++) {
+            int number = firstRow[col];
+            if (number < 1 || number > RegionLayout.SIZE || inverse[number] != 0) {
+                return -1;
+            }
+            inverse[number] = col + 1;
+        }
+        int[][] canonical = new int[RegionLayout.SIZE][RegionLayout.SIZE];
+        for (int row = 0; row < RegionLayout.SIZE; row++) {
+            for (int col = 0; col < RegionLayout.SIZE; col++) {
+                int number = grid[row][col];
+                if (number < 1 || number > RegionLayout.SIZE) {
+                    return -1;
+                }
+                canonical[row][col] = inverse[number];
+            }
+        }
+        long packed = pack(canonical);
+        int low = 0;
+        int high = grids.limit() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = grids.get(mid);
+            if (value < packed) {
+                low = mid + 1;
+            } else if (value > packed) {
+                high = mid - 1;
+            } else {
+                return Arrays.deepEquals(unpack(value), canonical)
+                        ? (long) mid * RELABELINGS + rankRelabeling(firstRow)
+                        : -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Packs rows 1 to 4, first five cells of each, of a grid into 60 bits,
+     * first cell in the highest bits, so packed grids sort like their cells.
+     *
+     * @param grid the grid.
+     * @return the packed grid.
+     */
+    private static long pack(int[][] grid) {
+        long packed = 0;
+        for (int row = 1; row <= PACKED_ROWS; row++) {
+            for (int col = 0; col < PACKED_COLS; col++) {
+                packed = (packed << 3) | grid[row][col];
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Unpacks a canonical grid, filling in its first row and completing its
+     * last row and column.
+     *
+     * @param packed the packed grid.
+     * @return the canonical grid.
+     */
+    private static int[][] unpack(long packed) {
+        int[][] grid = new int[RegionLayout.SIZE][RegionLayout.SIZE];
+        for (int row = PACKED_ROWS; row >= 1; row--) {
+            for (int col = PACKED_COLS - 1; col >= 0; col--) {
+                grid[row][col] = (int) (packed & 7);
+                packed >>>= 3;
+            }
+        }
+        for (int col = 0; col < RegionLayout.SIZE; col++) {
+            grid[0][col] = col + 1;
+        }
+        for (int row = 0; row < RegionLayout.SIZE - 1; row++) {
+            int used = 0;
+            for (int col = 0; col < PACKED_COLS; col++) {
+                used |= 1 << grid[row][col];
+            }
+            grid[row][PACKED_COLS] = Integer.numberOfTrailingZeros(ALL_NUMBERS & ~used);
+        }
+        for (int col = 0; col < RegionLayout.SIZE; col++) {
+            int used = 0;
+            for (int row = 0; row < RegionLayout.SIZE - 1; row++) {
+                used |= 1 << grid[row][col];
+            }
+            grid[RegionLayout.SIZE - 1][col] = Integer.numberOfTrailingZeros(ALL_NUMBERS & ~used);
+        }
+        return grid;
+    }
+
+    /**
+     * Returns the relabeling of the given rank, in lexicographic order.
+     *
+     * @param rank the rank, from 0 to 719.
+     * @return the new label of each number, indexed from 0.
+     */
+    private static int[] relabeling(int rank) {
+        int[] labels = new int[RegionLayout.SIZE];
+        int unused = ALL_NUMBERS;
+        for (int i = 0; i < RegionLayout.SIZE; i++) {
+            int factorial = FACTORIALS[RegionLayout.SIZE - 1 - i];
+            int skip = rank / factorial;
+            rank %= factorial;
+            int number = Integer.numberOfTrailingZeros(unused);
+            for (; skip > 0; skip--) {
+                number = Integer.numberOfTrailingZeros(unused & (-1 << (number + 1)));
+            }
+            labels[i] = number;
+            unused &= ~(1 << number);
+        }
+        return labels;
+    }
+
+    /**
+     * Returns the rank of a relabeling in lexicographic order.
+     *
+     * @param labels the new label of each number, indexed from 0.
+     * @return the rank, from 0 to 719.
+     */
+    private static int rankRelabeling(int[] labels) {
+        int rank = 0;
+        int unused = ALL_NUMBERS;
+        for (int i = 0; i < RegionLayout.SIZE; i++) {
+            int smaller = Integer.bitCount(unused & ((1 << labels[i]) - 1));
+            rank += smaller * FACTORIALS[RegionLayout.SIZE - 1 - i];
+            unused &= ~(1 << labels[i]);
+        }
+        return rank;
+    }
+
+    private static int box(int row, int col) {
+        return (row / 2) * 2 + col / 3;
+    }
+
+    /**
+     * Checks if a file holds a complete index.
+     *
+     * @param file the file of the index.
+     * @return true if the file exists and is complete, false otherwise.
+     * @throws IOException if the file cannot be read.
+     */
+    private static boolean isValidFile(Path file) throws IOException {
+        if (!Files.isRegularFile(file) || Files.size(file) != HEADER_BYTES + (long) CANONICAL_GRIDS * Long.BYTES) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Reads the whole header.
+            }
+            header.flip();
+            return header.remaining() == HEADER_BYTES && header.getLong() == MAGIC
+                    && header.getLong() == CANONICAL_GRIDS;
+        }
+    }
+
+    /**
+     * Maps the grids of an index file.
+     *
+     * @param file the file of the index.
+     * @return the packed canonical grids.
+     * @throws IOException if the file cannot be read.
+     */
+    private static LongBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return buffer.position(HEADER_BYTES).slice().asLongBuffer();
+        }
+    }
+
+    /**
+     * Checks that packed grids are in strictly increasing order and that each
+     * unpacks to a valid grid. As there are exactly {@value #CANONICAL_GRIDS}
+     * canonical grids, that many grids passing the check are all of them.
+     *
+     * @param grids the packed canonical grids.
+     * @return true if the grids are valid, false otherwise.
+     */
+    private static boolean hasValidGrids(LongBuffer grids) {
+        if (grids.limit() != CANONICAL_GRIDS) {
+            return false;
+        }
+        long previous = -1;
+        for (int i = 0; i < grids.limit(); i++) {
+            long packed = grids.get(i);
+            boolean inRange = packed >>> (3 * PACKED_ROWS * PACKED_COLS) == 0;
+            if (packed <= previous || !inRange || !isValidGrid(unpack(packed))) {
+                return false;
+            }
+            previous = packed;
+        }
+        return true;
+    }
+
+    /**
+     * Checks if every row, column and box of a grid holds the numbers 1 to 6.
+     *
+     * @param grid the grid.
+     * @return true if the grid is valid, false otherwise.
+     */
+    private static boolean isValidGrid(int[][] grid) {
+        int[] rows = new int[RegionLayout.SIZE];
+        int[] cols = new int[RegionLayout.SIZE];
+        int[] boxes = new int[RegionLayout.SIZE];
+        for (int row = 0; row < RegionLayout.SIZE; row++) {
+            for (int col = 0; col < RegionLayout.SIZE; col++) {
+                int bit = 1 << grid[row][col];
+                rows[row] |= bit;
+                cols[col] |= bit;
+                boxes[box(row, col)] |= bit;
+            }
+        }
+        for (int i = 0; i < RegionLayout.SIZE; i++) {
+            if (rows[i] != ALL_NUMBERS || cols[i] != ALL_NUMBERS || boxes[i] != ALL_NUMBERS) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes an index to a temporary file and moves it into place, so other
+     * processes never map a partial file.
+     *
+     * @param file the file of the index.
+     * @param packed the packed canonical grids.
+     * @throws IOException if the file cannot be written.
+     */
+    private static void write(Path file, long[] packed) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + packed.length * Long.BYTES);
+        buffer.putLong(MAGIC).putLong(packed.length);
+        buffer.asLongBuffer().put(packed);
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, FILE_NAME, ".tmp");
+        try {
+            Files.write(temp, buffer.array());
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Holds the shared index, created on first use.
+     */
+    private static class Holder {
+        private static final GridIndex INSTANCE = load();
+
+        private static GridIndex load() {
+            String name = System.getProperty(FILE_PROPERTY);
+            Path file = name != null
+                    ? Paths.get(name)
+                    : Paths.get(System.getProperty("user.home"), CACHE_DIRECTORY, FILE_NAME);
+            try {
+                return open(file);
+            } catch (IOException | UncheckedIOException e) {
+                return new GridIndex(LongBuffer.wrap(enumerate()));
+            }
+        }
+    }
+
+    /**
+     * Enumerates the grids completing a partial grid, filling cells in order.
+     * Tasks for the first cells fork one subtask per candidate; later cells
+     * are searched sequentially.
+     */
+    private static class EnumerateTask extends RecursiveTask<long[]> {
+
+        private static final int SPLIT_CELL = 2 * RegionLayout.SIZE;
+
+        private final int cell;
+        private final int[] cells;
+        private final int[] rows;
+        private final int[] cols;
+        private final int[] boxes;
+        private long[] found = new long[64];
+        private int count;
+
+        EnumerateTask(int cell, int[] cells, int[] rows, int[] cols, int[] boxes) {
+            this.cell = cell;
+            this.cells = cells;
+            this.rows = rows;
+            this.cols = cols;
+            this.boxes = boxes;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (cell >= SPLIT_CELL) {
+                search(cell);
+                return Arrays.copyOf(found, count);
+            }
+            int row = cell / RegionLayout.SIZE;
+            int col = cell % RegionLayout.SIZE;
+            int box = box(row, col);
+            int candidates = ALL_NUMBERS & ~(rows[row] | cols[col] | boxes[box]);
+            EnumerateTask[] subtasks = new EnumerateTask[Integer.bitCount(candidates)];
+            for (int i = 0; candidates != 0; i++, candidates &= candidates - 1) {
+                int bit = candidates & -candidates;
+                int[] nextCells = cells.clone();
+                int[] nextRows = rows.clone();
+                int[] nextCols = cols.clone();
+                int[] nextBoxes = boxes.clone();
+                nextCells[cell] = Integer.numberOfTrailingZeros(bit);
+                nextRows[row] |= bit;
+                nextCols[col] |= bit;
+                nextBoxes[box] |= bit;
+                subtasks[i] = new EnumerateTask(cell + 1, nextCells, nextRows, nextCols, nextBoxes);
+            }
+            invokeAll(subtasks);
+            int total = 0;
+            for (EnumerateTask subtask : subtasks) {
+                total += subtask.join().length;
+            }
+            long[] result = new long[total];
+            int offset = 0;
+            for (EnumerateTask subtask : subtasks) {
+                long[] part = subtask.join();
+                System.arraycopy(part, 0, result, offset, part.length);
+                offset += part.length;
+            }
+            return result;
+        }
+
+        private void search(int cell) {
+            if (cell == RegionLayout.CELLS) {
+                if (count == found.length) {
+                    found = Arrays.copyOf(found, count * 2);
+                }
+                found[count++] = packCells();
+                return;
+            }
+            int row = cell / RegionLayout.SIZE;
+            int col = cell % RegionLayout.SIZE;
+            int box = box(row, col);
+            int candidates = ALL_NUMBERS & ~(rows[row] | cols[col] | boxes[box]);
+            for (; candidates != 0; candidates &= candidates - 1) {
+                int bit = candidates & -candidates;
+                cells[cell] = Integer.numberOfTrailingZeros(bit);
+                rows[row] |= bit;
+                cols[col] |= bit;
+                boxes[box] |= bit;
+                search(cell + 1);
+                rows[row] &= ~bit;
+                cols[col] &= ~bit;
+                boxes[box] &= ~bit;
+            }
+        }
+
+        private long packCells() {
+            long packed = 0;
+            for (int row = 1; row <= PACKED_ROWS; row++) {
+                for (int col = 0; col < PACKED_COLS; col++) {
+                    packed = (packed << 3) | cells[row * RegionLayout.SIZE + col];
+                }
+            }
+            return packed;
+        }
+    }
+}
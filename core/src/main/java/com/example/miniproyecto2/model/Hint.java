@@ -0,0 +1,11 @@
+package com.example.miniproyecto2.model;
+
+/**
+ * Represents a hint for the Sudoku board: the number that belongs in a cell.
+ *
+ * @param row the row index of the cell.
+ * @param col the column index of the cell.
+ * @param number the correct number for the cell.
+ */
+public record Hint(int row, int col, int number) {
+}
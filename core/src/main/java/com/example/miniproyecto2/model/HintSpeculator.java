@@ -0,0 +1,173 @@
+package com.example.miniproyecto2.model;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Computes the next hint of a board state on a background thread before it
+ * is asked for. Each speculation is keyed by the Zobrist hash of the board
+ * state it was computed from: it is discarded as soon as the board changes,
+ * and a request for the hint of the same state is answered from it without
+ * searching, after waiting briefly for it if it is still being computed.
+ * <p>
+ * Speculations are started, taken and discarded from the thread that owns
+ * the game; only the computation runs on the background thread. The
+ * counters may be read from any thread.
+ */
+public final class HintSpeculator {
+
+    /**
+     * The longest time a request waits for a speculation that is still being
+     * computed before searching itself.
+     */
+    static final long WAIT_MILLIS = 250;
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "hint-speculation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder wasted = new LongAdder();
+    private Speculation current;
+
+    /**
+     * Starts computing the hint of a board state, replacing the previous
+     * speculation. Does nothing if the previous speculation is for the same
+     * board state.
+     *
+     * @param hash the hash of the board state.
+     * @param task the computation of the hint, on a snapshot of the board.
+     */
+    void speculate(long hash, Supplier<Hint> task) {
+        if (current != null && current.hash == hash) {
+            return;
+        }
+        discard();
+        Speculation speculation = new Speculation(hash);
+        speculation.future = CompletableFuture.supplyAsync(() -> {
+            speculation.started = true;
+            return task.get();
+        }, EXECUTOR);
+        current = speculation;
+    }
+
+    /**
+     * Returns the hint of a board state, from the speculation if it was
+     * computed for that state, or else from the fallback. A speculation still
+     * being computed is waited for up to {@link #WAIT_MILLIS}, as it is
+     * further along than a new search would be.
+     *
+     * @param hash the hash of the board state.
+     * @param fallback the computation of the hint on the caller's thread.
+     * @return the hint.
+     * @throws CancellationException if the caller is interrupted while
+     *                               waiting.
+     */
+    Hint take(long hash, Supplier<Hint> fallback) {
+        Speculation speculation = current;
+        if (speculation != null && speculation.hash == hash) {
+            try {
+                Hint hint = speculation.future.get(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                current = null;
+                hits.increment();
+                return hint;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted waiting for the speculation");
+            } catch (ExecutionException | CancellationException | TimeoutException e) {
+                // Searches on the caller's thread below.
+            }
+        }
+        misses.increment();
+        return fallback.get();
+    }
+
+    /**
+     * Discards the speculation unless it was computed for the given board
+     * state. Does nothing, and does not allocate, when there is none.
+     *
+     * @param hash the hash of the current board state.
+     */
+    void discardUnless(long hash) {
+        if (current != null && current.hash != hash) {
+            discard();
+        }
+    }
+
+    /**
+     * Discards the speculation, cancelling it if it has not started yet.
+     */
+    void discard() {
+        Speculation speculation = current;
+        if (speculation == null) {
+            return;
+        }
+        current = null;
+        speculation.future.cancel(false);
+        if (speculation.started) {
+            wasted.increment();
+        }
+    }
+
+    /**
+     * Returns the number of hints answered from a speculation.
+     *
+     * @return the number of hits.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of hints that had to be computed when asked for.
+     *
+     * @return the number of misses.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of speculations that started computing but were
+     * discarded without being used.
+     *
+     * @return the number of wasted speculations.
+     */
+    public long getWasted() {
+        return wasted.sum();
+    }
+
+    /**
+     * Returns the fraction of hints answered from a speculation.
+     *
+     * @return the hit rate, or 0 if no hint was asked for.
+     */
+    public double getHitRate() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * A hint being computed for a board state.
+     */
+    private static class Speculation {
+        private final long hash;
+        private CompletableFuture<Hint> future;
+        private volatile boolean started;
+
+        Speculation(long hash) {
+            this.hash = hash;
+        }
+    }
+}
@@ -11,6 +11,21 @@ public interface IGame {
      */
     void initializeBoard();
 
+    /**
+     * Selects the board generated from the given seed and its corresponding
+     * answer.
+     *
+     * @param seed the seed of the board.
+     */
+    void initializeBoard(long seed);
+
+    /**
+     * Returns the seed of the current board.
+     *
+     * @return the seed.
+     */
+    long getSeed();
+
     /**
      * Makes a move on the board.
      *
@@ -20,6 +35,14 @@ public interface IGame {
      */
     void makeMove(String number, int row, int col);
 
+    /**
+     * Removes the number of a cell.
+     *
+     * @param row the row index.
+     * @param col the column index.
+     */
+    void clearCell(int row, int col);
+
     /**
      * Returns the current board being played.
      *
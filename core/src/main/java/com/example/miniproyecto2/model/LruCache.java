@@ -0,0 +1,137 @@
+package com.example.miniproyecto2.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * A bounded, thread-safe cache that evicts the least recently used entry
+ * once it holds more than its capacity.
+ * <p>
+ * The lock of the cache only guards its map. Values are computed outside
+ * it, so loading one key never blocks lookups or loads of other keys;
+ * callers asking for a key that is being loaded wait for that load instead
+ * of computing the value again.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ */
+public class LruCache<K, V> {
+
+    private final LinkedHashMap<K, CompletableFuture<V>> entries;
+
+    /**
+     * Constructs a new LruCache holding at most the given number of entries.
+     *
+     * @param capacity the maximum number of entries.
+     */
+    public LruCache(int capacity) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CompletableFuture<V>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the value for the given key, computing and storing it if it is
+     * not cached. The value is computed at most once per key while it stays
+     * in the cache, on the thread of the first caller; other callers wait for
+     * it. If the computation fails, its entry is removed and each waiting
+     * caller tries again.
+     *
+     * @param key the key to look up.
+     * @param loader the function computing the value of a missing key.
+     * @return the cached or computed value.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        while (true) {
+            CompletableFuture<V> future;
+            boolean loading = false;
+            synchronized (this) {
+                future = entries.get(key);
+                if (future == null) {
+                    future = new CompletableFuture<>();
+                    entries.put(key, future);
+                    loading = true;
+                }
+            }
+            if (loading) {
+                return load(key, future, loader);
+            }
+            try {
+                return future.join();
+            } catch (CompletionException | CancellationException e) {
+                // The load failed and its entry was removed; load it again.
+            }
+        }
+    }
+
+    /**
+     * Computes the value of a key and completes its entry, or removes the
+     * entry if the computation fails.
+     *
+     * @param key the key to load.
+     * @param future the entry of the key.
+     * @param loader the function computing the value.
+     * @return the computed value.
+     */
+    private V load(K key, CompletableFuture<V> future, Function<? super K, ? extends V> loader) {
+        V value;
+        try {
+            value = loader.apply(key);
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                entries.remove(key, future);
+            }
+            future.completeExceptionally(e);
+            throw e;
+        }
+        future.complete(value);
+        return value;
+    }
+
+    /**
+     * Returns the cached value for the given key without computing it or
+     * waiting for it to be computed. Use with {@link #put(Object, Object)}
+     * when the caller computes missing values itself.
+     *
+     * @param key the key to look up.
+     * @return the cached value, or null if the key is not cached or its value
+     * is still being computed.
+     */
+    public V getIfPresent(K key) {
+        CompletableFuture<V> future;
+        synchronized (this) {
+            future = entries.get(key);
+        }
+        return future != null && future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    /**
+     * Stores a value, replacing any value cached for the same key.
+     *
+     * @param key the key of the value.
+     * @param value the value to store.
+     */
+    public void put(K key, V value) {
+        CompletableFuture<V> future = CompletableFuture.completedFuture(value);
+        synchronized (this) {
+            entries.put(key, future);
+        }
+    }
+
+    /**
+     * Returns the number of cached entries, including those still being
+     * computed.
+     *
+     * @return the number of entries.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+}
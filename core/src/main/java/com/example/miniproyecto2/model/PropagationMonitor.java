@@ -0,0 +1,213 @@
+package com.example.miniproyecto2.model;
+
+/**
+ * Tracks the candidates of every cell of a board incrementally and detects
+ * board states that can no longer be solved.
+ * <p>
+ * For every cell and number, the monitor counts the peers of the cell that
+ * hold the number. Placing or removing a number updates only the counts of
+ * the peers of its cell, so both are cheap and exactly undo each other. The
+ * candidates of an empty cell are the numbers none of its peers hold that
+ * can also still complete its cage.
+ * <p>
+ * {@link #findDeadEnd()} looks for an empty cell without candidates, a filled
+ * cell that clashes with a peer or its cage, or a region with no room left
+ * for a missing number. It then places the numbers of naked singles, cells
+ * with a single candidate left, one at a time on a trail, checking again
+ * after each, and finally takes them back off the trail. Propagation stops
+ * after {@link #PROPAGATION_BUDGET} placements, which bounds the time a
+ * check can take on each keystroke. A dead end found this way is certain;
+ * a board with no dead end found may still be unsolvable.
+ * <p>
+ * None of the methods allocate.
+ */
+final class PropagationMonitor {
+
+    /**
+     * The value returned by {@link #findDeadEnd()} when no dead end is found.
+     */
+    static final int NO_DEAD_END = -1;
+
+    /**
+     * The maximum number of naked singles placed by one check.
+     */
+    static final int PROPAGATION_BUDGET = RegionLayout.CELLS;
+
+    private static final int ALL_NUMBERS = 0b1111110;
+
+    private final RegionLayout layout;
+    private final Cages cages;
+    private final int[] cells = new int[RegionLayout.CELLS];
+    private final int[] counts = new int[RegionLayout.CELLS * 7];
+    private final int[] blocked = new int[RegionLayout.CELLS];
+    private final int[] cageUsed;
+    private final int[] trail = new int[PROPAGATION_BUDGET];
+
+    /**
+     * Constructs a new PropagationMonitor for a board.
+     *
+     * @param layout the regions of the board.
+     * @param cages the cages of the board.
+     * @param board the board, with zeros for empty cells.
+     */
+    PropagationMonitor(RegionLayout layout, Cages cages, int[][] board) {
+        this.layout = layout;
+        this.cages = cages;
+        this.cageUsed = new int[cages.getCageCount()];
+        for (int cell = 0; cell < RegionLayout.CELLS; cell++) {
+            int number = board[cell / RegionLayout.SIZE][cell % RegionLayout.SIZE];
+            if (number != 0) {
+                assign(cell, number);
+            }
+        }
+    }
+
+    /**
+     * Places a number in an empty cell.
+     *
+     * @param cell the cell index.
+     * @param number the number, from 1 to 6.
+     */
+    void assign(int cell, int number) {
+        cells[cell] = number;
+        int bit = 1 << number;
+        for (int i = layout.peerStart(cell), end = layout.peerEnd(cell); i < end; i++) {
+            int peer = layout.peer(i);
+            if (counts[peer * 7 + number]++ == 0) {
+                blocked[peer] |= bit;
+            }
+        }
+        int cage = cages.getCage(cell);
+        if (cage >= 0) {
+            cageUsed[cage] |= bit;
+        }
+    }
+
+    /**
+     * Removes the number of a filled cell.
+     *
+     * @param cell the cell index.
+     */
+    void unassign(int cell) {
+        int number = cells[cell];
+        cells[cell] = 0;
+        int bit = 1 << number;
+        for (int i = layout.peerStart(cell), end = layout.peerEnd(cell); i < end; i++) {
+            int peer = layout.peer(i);
+            if (--counts[peer * 7 + number] == 0) {
+                blocked[peer] &= ~bit;
+            }
+        }
+        int cage = cages.getCage(cell);
+        if (cage >= 0 && !cageHolds(cage, number)) {
+            cageUsed[cage] &= ~bit;
+        }
+    }
+
+    /**
+     * Checks if a cell of a cage holds a number, so a number repeated in a
+     * cage stays used until its last copy is removed.
+     *
+     * @param cage the cage index.
+     * @param number the number, from 1 to 6.
+     * @return true if the cage holds the number, false otherwise.
+     */
+    private boolean cageHolds(int cage, int number) {
+        for (int cell : cages.getCells(cage)) {
+            if (cells[cell] == number) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the candidates of a cell: the numbers none of its peers hold
+     * that can also still complete its cage, ignoring the number of the cell
+     * itself.
+     *
+     * @param cell the cell index.
+     * @return the bitmask of candidates.
+     */
+    int candidates(int cell) {
+        int candidates = ALL_NUMBERS & ~blocked[cell];
+        int cage = cages.getCage(cell);
+        if (cage >= 0) {
+            candidates &= cages.allowed(cage, cageUsed[cage] & ~(1 << cells[cell]));
+        }
+        return candidates;
+    }
+
+    /**
+     * Looks for a dead end, propagating naked singles within the budget. The
+     * board is left as it was.
+     *
+     * @return the index of a cell where the dead end shows, or
+     * {@link #NO_DEAD_END} if none was found.
+     */
+    int findDeadEnd() {
+        int deadEnd = check();
+        int placed = 0;
+        while (deadEnd == NO_DEAD_END && placed < PROPAGATION_BUDGET) {
+            int single = findSingle();
+            if (single < 0) {
+                break;
+            }
+            assign(single, Integer.numberOfTrailingZeros(candidates(single)));
+            trail[placed++] = single;
+            deadEnd = check();
+        }
+        while (placed > 0) {
+            unassign(trail[--placed]);
+        }
+        return deadEnd;
+    }
+
+    /**
+     * Checks every cell and region for a contradiction.
+     *
+     * @return the index of a cell where a contradiction shows, or
+     * {@link #NO_DEAD_END} if there is none.
+     */
+    private int check() {
+        for (int cell = 0; cell < RegionLayout.CELLS; cell++) {
+            int candidates = candidates(cell);
+            if (cells[cell] == 0 ? candidates == 0 : (candidates & (1 << cells[cell])) == 0) {
+                return cell;
+            }
+        }
+        for (int region = 0; region < layout.getRegionCount(); region++) {
+            int[] members = layout.getRegion(region);
+            int covered = 0;
+            int firstEmpty = -1;
+            for (int cell : members) {
+                if (cells[cell] != 0) {
+                    covered |= 1 << cells[cell];
+                } else {
+                    covered |= candidates(cell);
+                    if (firstEmpty < 0) {
+                        firstEmpty = cell;
+                    }
+                }
+            }
+            if (covered != ALL_NUMBERS) {
+                return firstEmpty >= 0 ? firstEmpty : members[0];
+            }
+        }
+        return NO_DEAD_END;
+    }
+
+    /**
+     * Finds an empty cell with a single candidate left.
+     *
+     * @return the cell index, or -1 if there is none.
+     */
+    private int findSingle() {
+        for (int cell = 0; cell < RegionLayout.CELLS; cell++) {
+            if (cells[cell] == 0 && Integer.bitCount(candidates(cell)) == 1) {
+                return cell;
+            }
+        }
+        return -1;
+    }
+}
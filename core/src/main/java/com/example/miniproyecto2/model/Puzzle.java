@@ -0,0 +1,141 @@
+package com.example.miniproyecto2.model;
+
+/**
+ * An immutable Sudoku puzzle identified by the seed it was generated from.
+ */
+public final class Puzzle {
+
+    private final Variant variant;
+    private final long seed;
+    private final int[][] board;
+    private final int[][] answer;
+    private final Cages cages;
+
+    /**
+     * Constructs a new Puzzle. The arrays are owned by the puzzle and must not
+     * be modified afterwards.
+     *
+     * @param variant the rule variant of the puzzle.
+     * @param seed the seed the puzzle was generated from.
+     * @param board the initial board, with zeros for empty cells.
+     * @param answer the solved board.
+     * @param cages the Killer cages of the puzzle.
+     */
+    Puzzle(Variant variant, long seed, int[][] board, int[][] answer, Cages cages) {
+        this.variant = variant;
+        this.seed = seed;
+        this.board = board;
+        this.answer = answer;
+        this.cages = cages;
+    }
+
+    /**
+     * Returns the rule variant of the puzzle.
+     *
+     * @return the variant.
+     */
+    public Variant getVariant() {
+        return variant;
+    }
+
+    /**
+     * Returns the seed the puzzle was generated from.
+     *
+     * @return the seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the shareable code of the puzzle.
+     *
+     * @return the puzzle code.
+     */
+    public String getCode() {
+        return PuzzleGenerator.toCode(seed);
+    }
+
+    /**
+     * Returns a copy of the initial board.
+     *
+     * @return the initial board.
+     */
+    public int[][] getBoard() {
+        return copy(board);
+    }
+
+    /**
+     * Returns a copy of the solved board.
+     *
+     * @return the answer board.
+     */
+    public int[][] getAnswer() {
+        return copy(answer);
+    }
+
+    /**
+     * Returns the Killer cages of the puzzle.
+     *
+     * @return the cages, or {@link Cages#NONE} if the variant has none.
+     */
+    public Cages getCages() {
+        return cages;
+    }
+
+    /**
+     * Returns what the solver knows about a board state of this puzzle,
+     * answered from the shared {@link SolveCache} when the state was seen
+     * before. The board is not checked against the initial board.
+     *
+     * @param board the board state, with zeros for empty cells.
+     * @return the result of the analysis.
+     */
+    public SolveResult analyze(int[][] board) {
+        long hash = Zobrist.hash(board, Zobrist.rulesKey(variant, seed));
+        return SolveCache.SHARED.get(hash, key -> Solver.analyze(board, variant.getLayout(), cages));
+    }
+
+    /**
+     * Returns a hint for a board state of this puzzle, as
+     * {@link Game#nextHint()} does: the next logical step when it agrees with
+     * the answer, otherwise the answer of the first empty cell.
+     *
+     * @param board the board state, with zeros for empty cells.
+     * @return the hint, or null if the board is full.
+     */
+    public Hint hint(int[][] board) {
+        return Game.findHint(board, answer, analyze(board).getNextStep());
+    }
+
+    /**
+     * Checks if a board state keeps every number of the initial board.
+     *
+     * @param board the board state, with zeros for empty cells.
+     * @return true if every given number is in place, false otherwise.
+     */
+    public boolean keepsGivens(int[][] board) {
+        for (int row = 0; row < RegionLayout.SIZE; row++) {
+            for (int col = 0; col < RegionLayout.SIZE; col++) {
+                if (this.board[row][col] != 0 && this.board[row][col] != board[row][col]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies a board row by row.
+     *
+     * @param source the board to copy.
+     * @return the copy.
+     */
+    static int[][] copy(int[][] source) {
+        int[][] copy = new int[source.length][];
+        for (int row = 0; row < source.length; row++) {
+            copy[row] = source[row].clone();
+        }
+        return copy;
+    }
+}
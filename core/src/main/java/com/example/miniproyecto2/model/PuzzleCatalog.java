@@ -0,0 +1,128 @@
+package com.example.miniproyecto2.model;
+
+/**
+ * Holds the hand-made 6x6 boards the puzzles are generated from, together
+ * with their answers.
+ */
+final class PuzzleCatalog {
+
+    private static final int[][][] BOARDS = {
+            {
+                    {2, 0, 0, 1, 6, 0},
+                    {0, 0, 1, 0, 0, 0},
+                    {0, 3, 0, 0, 0, 4},
+                    {1, 0, 0, 0, 5, 0},
+                    {0, 0, 2, 0, 4, 0},
+                    {0, 0, 6, 0, 0, 2}
+            },
+            {
+                    {4, 1, 0, 0, 6, 3},
+                    {0, 0, 0, 0, 0, 0},
+                    {5, 4, 0, 0, 3, 6},
+                    {0, 0, 0, 0, 0, 0},
+                    {1, 3, 0, 0, 2, 4},
+                    {0, 0, 0, 0, 0, 0}
+            },
+            {
+                    {0, 2, 0, 0, 3, 0},
+                    {0, 4, 0, 0, 6, 0},
+                    {0, 3, 0, 0, 0, 6},
+                    {0, 5, 0, 0, 4, 0},
+                    {0, 6, 0, 1, 0, 4},
+                    {0, 1, 0, 0, 0, 0}
+            },
+            {
+                    {1, 0, 0, 0, 0, 6},
+                    {0, 5, 0, 0, 3, 0},
+                    {0, 0, 3, 1, 0, 0},
+                    {0, 0, 1, 3, 0, 0},
+                    {0, 2, 0, 0, 1, 0},
+                    {3, 0, 0, 0, 0, 4}
+            },
+            {
+                    {0, 2, 0, 0, 5, 0},
+                    {0, 0, 6, 0, 2, 0},
+                    {2, 0, 0, 3, 0, 0},
+                    {3, 0, 0, 0, 0, 4},
+                    {0, 3, 0, 6, 0, 2},
+                    {0, 0, 2, 0, 0, 0}
+            }
+    };
+
+    private static final int[][][] ANSWERS = {
+            {
+                    {2, 4, 3, 1, 6, 5},
+                    {5, 6, 1, 4, 2, 3},
+                    {6, 3, 5, 2, 1, 4},
+                    {1, 2, 4, 3, 5, 6},
+                    {3, 5, 2, 6, 4, 1},
+                    {4, 1, 6, 5, 3, 2}
+            },
+            {
+                    {4, 1, 2, 5, 6, 3},
+                    {3, 5, 6, 1, 4, 2},
+                    {5, 4, 1, 2, 3, 6},
+                    {2, 6, 3, 4, 1, 5},
+                    {1, 3, 5, 6, 2, 4},
+                    {6, 2, 4, 3, 5, 1}
+            },
+            {
+                    {1, 2, 6, 4, 3, 5},
+                    {3, 4, 5, 2, 6, 1},
+                    {4, 3, 2, 5, 1, 6},
+                    {6, 5, 1, 3, 4, 2},
+                    {2, 6, 3, 1, 5, 4},
+                    {5, 1, 4, 6, 2, 3}
+            },
+            {
+                    {1, 3, 2, 4, 5, 6},
+                    {4, 5, 6, 2, 3, 1},
+                    {2, 6, 3, 1, 4, 5},
+                    {5, 4, 1, 3, 6, 2},
+                    {6, 2, 4, 5, 1, 3},
+                    {3, 1, 5, 6, 2, 4}
+            },
+            {
+                    {1, 2, 3, 4, 5, 6},
+                    {4, 5, 6, 1, 2, 3},
+                    {2, 1, 4, 3, 6, 5},
+                    {3, 6, 5, 2, 1, 4},
+                    {5, 3, 1, 6, 4, 2},
+                    {6, 4, 2, 5, 3, 1}
+            }
+    };
+
+    private PuzzleCatalog() {
+    }
+
+    /**
+     * Returns the number of boards in the catalog.
+     *
+     * @return the number of boards.
+     */
+    static int size() {
+        return BOARDS.length;
+    }
+
+    /**
+     * Returns the board at the given index. The returned array must not be
+     * modified.
+     *
+     * @param index the index of the board.
+     * @return the board.
+     */
+    static int[][] board(int index) {
+        return BOARDS[index];
+    }
+
+    /**
+     * Returns the answer of the board at the given index. The returned array
+     * must not be modified.
+     *
+     * @param index the index of the board.
+     * @return the answer board.
+     */
+    static int[][] answer(int index) {
+        return ANSWERS[index];
+    }
+}
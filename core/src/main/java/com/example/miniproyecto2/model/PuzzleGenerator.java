@@ -0,0 +1,345 @@
+package com.example.miniproyecto2.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Generates Sudoku puzzles deterministically from a 64-bit seed.
+ * For the classic variant, a seed picks a board from the
+ * {@link PuzzleCatalog} and shuffles it with transformations that keep it a
+ * valid 6x6 Sudoku: relabeling the numbers, swapping rows within a band of
+ * blocks, reordering the bands, and the same for columns and stacks. For the
+ * other variants, the seed picks a random full board, whose numbers are
+ * then removed while the solution stays unique. Full boards with the classic
+ * regions are drawn uniformly from the {@link GridIndex}; others come from a
+ * randomized search. Killer puzzles also split that full board into random
+ * cages before removing numbers.
+ * The same variant and seed always produce the same puzzle.
+ */
+public final class PuzzleGenerator {
+
+    private static final int CACHE_CAPACITY = 256;
+    private static final LruCache<Key, Puzzle> CACHE = new LruCache<>(CACHE_CAPACITY);
+
+    private PuzzleGenerator() {
+    }
+
+    /**
+     * Returns the classic puzzle for the given seed, reusing it if it was
+     * generated recently.
+     *
+     * @param seed the seed of the puzzle.
+     * @return the puzzle.
+     */
+    public static Puzzle get(long seed) {
+        return get(Variant.CLASSIC, seed);
+    }
+
+    /**
+     * Returns the puzzle of the given variant for the given seed, reusing it
+     * if it was generated recently.
+     *
+     * @param variant the rule variant of the puzzle.
+     * @param seed the seed of the puzzle.
+     * @return the puzzle.
+     */
+    public static Puzzle get(Variant variant, long seed) {
+        return CACHE.get(new Key(variant, seed), key -> generate(key.variant(), key.seed()));
+    }
+
+    /**
+     * Generates the puzzle of the given variant for the given seed without
+     * using the cache.
+     *
+     * @param variant the rule variant of the puzzle.
+     * @param seed the seed of the puzzle.
+     * @return the puzzle.
+     */
+    public static Puzzle generate(Variant variant, long seed) {
+        if (variant.isKiller()) {
+            return generateKiller(variant, seed);
+        }
+        if (variant != Variant.CLASSIC) {
+            return generateBySearch(variant, seed);
+        }
+        Random random = new Random(seed);
+        int index = random.nextInt(PuzzleCatalog.size());
+
+        int[] numbers = shuffledIdentity(7, 1, random);
+        int[] rows = blockOrder(3, 2, random);
+        int[] cols = blockOrder(2, 3, random);
+
+        int[][] board = transform(PuzzleCatalog.board(index), numbers, rows, cols);
+        int[][] answer = transform(PuzzleCatalog.answer(index), numbers, rows, cols);
+        return new Puzzle(variant, seed, board, answer, Cages.NONE);
+    }
+
+    /**
+     * Generates a puzzle by building a random full board and removing
+     * numbers, in random order, as long as the solution stays unique.
+     *
+     * @param variant the rule variant of the puzzle.
+     * @param seed the seed of the puzzle.
+     * @return the puzzle.
+     */
+    private static Puzzle generateBySearch(Variant variant, long seed) {
+        Random random = new Random(seed);
+        RegionLayout layout = variant.getLayout();
+        int[][] answer = randomAnswer(layout, random);
+        int[][] board = removeNumbers(answer, layout, Cages.NONE, random);
+        return new Puzzle(variant, seed, board, answer, Cages.NONE);
+    }
+
+    /**
+     * Generates a Killer puzzle by building a random full board, splitting it
+     * into cages, and removing numbers as long as the solution stays unique.
+     *
+     * @param variant the rule variant of the puzzle.
+     * @param seed the seed of the puzzle.
+     * @return the puzzle.
+     */
+    private static Puzzle generateKiller(Variant variant, long seed) {
+        Random random = new Random(seed);
+        RegionLayout layout = variant.getLayout();
+        int[][] answer = randomAnswer(layout, random);
+        Cages cages = randomCages(answer, random);
+        int[][] board = removeNumbers(answer, layout, cages, random);
+        return new Puzzle(variant, seed, board, answer, cages);
+    }
+
+    /**
+     * Picks a random full board for a layout: uniformly from the
+     * {@link GridIndex} for the classic regions, or by a randomized search
+     * for other layouts.
+     *
+     * @param layout the regions of the board.
+     * @param random the source of randomness.
+     * @return the full board.
+     */
+    private static int[][] randomAnswer(RegionLayout layout, Random random) {
+        if (layout == RegionLayout.CLASSIC) {
+            return GridIndex.shared().sample(random);
+        }
+        return Solver.randomSolution(layout, random);
+    }
+
+    /**
+     * Removes numbers from a full board, in random order, as long as the
+     * solution stays unique.
+     *
+     * @param answer the full board.
+     * @param layout the regions of the board.
+     * @param cages the cages of the board.
+     * @param random the source of randomness.
+     * @return the board with the numbers removed.
+     */
+    private static int[][] removeNumbers(int[][] answer, RegionLayout layout, Cages cages, Random random) {
+        int[][] board = Puzzle.copy(answer);
+        for (int cell : shuffledIdentity(RegionLayout.CELLS, 0, random)) {
+            int row = cell / RegionLayout.SIZE;
+            int col = cell % RegionLayout.SIZE;
+            int number = board[row][col];
+            board[row][col] = 0;
+            if (Solver.countSolutions(board, layout, cages, 2) != 1) {
+                board[row][col] = number;
+            }
+        }
+        return board;
+    }
+
+    /**
+     * Splits a full board into cages of two to four adjacent cells with
+     * distinct numbers. A cage stays smaller when it cannot grow any further.
+     *
+     * @param answer the full board.
+     * @param random the source of randomness.
+     * @return the cages.
+     */
+    private static Cages randomCages(int[][] answer, Random random) {
+        int[] cageOf = new int[RegionLayout.CELLS];
+        Arrays.fill(cageOf, -1);
+        List<int[]> cells = new ArrayList<>();
+        List<Integer> sums = new ArrayList<>();
+
+        for (int start : shuffledIdentity(RegionLayout.CELLS, 0, random)) {
+            if (cageOf[start] >= 0) {
+                continue;
+            }
+            int cage = cells.size();
+            int[] members = new int[2 + random.nextInt(3)];
+            int[] options = new int[members.length * 4];
+            int size = 0;
+            int used = 0;
+            int sum = 0;
+            int next = start;
+            while (next >= 0) {
+                members[size++] = next;
+                cageOf[next] = cage;
+                int number = answer[next / RegionLayout.SIZE][next % RegionLayout.SIZE];
+                used |= 1 << number;
+                sum += number;
+                if (size == members.length) {
+                    break;
+                }
+
+                int count = 0;
+                for (int i = 0; i < size; i++) {
+                    int row = members[i] / RegionLayout.SIZE;
+                    int col = members[i] % RegionLayout.SIZE;
+                    count = addCageOption(options, count, row - 1, col, cageOf, used, answer);
+                    count = addCageOption(options, count, row + 1, col, cageOf, used, answer);
+                    count = addCageOption(options, count, row, col - 1, cageOf, used, answer);
+                    count = addCageOption(options, count, row, col + 1, cageOf, used, answer);
+                }
+                next = count == 0 ? -1 : options[random.nextInt(count)];
+            }
+            int[] cageCells = Arrays.copyOf(members, size);
+            Arrays.sort(cageCells);
+            cells.add(cageCells);
+            sums.add(sum);
+        }
+
+        int[] cageSums = new int[sums.size()];
+        for (int cage = 0; cage < cageSums.length; cage++) {
+            cageSums[cage] = sums.get(cage);
+        }
+        return new Cages(cells.toArray(new int[0][]), cageSums);
+    }
+
+    /**
+     * Adds a cell to the cells a cage can grow into, if it is on the board,
+     * not in a cage yet, and its number is not in the cage already.
+     *
+     * @param options the cells the cage can grow into.
+     * @param count the number of options so far.
+     * @param row the row index of the cell.
+     * @param col the column index of the cell.
+     * @param cageOf the cage of each cell, or -1.
+     * @param used the bitmask of numbers in the cage.
+     * @param answer the full board.
+     * @return the new number of options.
+     */
+    private static int addCageOption(int[] options, int count, int row, int col,
+                                     int[] cageOf, int used, int[][] answer) {
+        if (row < 0 || row >= RegionLayout.SIZE || col < 0 || col >= RegionLayout.SIZE) {
+            return count;
+        }
+        int cell = row * RegionLayout.SIZE + col;
+        if (cageOf[cell] >= 0 || (used & (1 << answer[row][col])) != 0) {
+            return count;
+        }
+        options[count] = cell;
+        return count + 1;
+    }
+
+    /**
+     * Returns the seed of the puzzle of the day for the given date.
+     *
+     * @param date the date.
+     * @return the seed of the puzzle of that day.
+     */
+    public static long dailySeed(LocalDate date) {
+        long z = date.toEpochDay() + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns the shareable code for the given seed.
+     *
+     * @param seed the seed of the puzzle.
+     * @return the puzzle code.
+     */
+    public static String toCode(long seed) {
+        return Long.toUnsignedString(seed, 36).toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Parses a shareable code back into the seed of its puzzle.
+     *
+     * @param code the puzzle code.
+     * @return the seed of the puzzle.
+     * @throws NumberFormatException if the code is not valid.
+     */
+    public static long fromCode(String code) {
+        return Long.parseUnsignedLong(code.trim().toLowerCase(Locale.ROOT), 36);
+    }
+
+    /**
+     * Applies a relabeling of numbers and a reordering of rows and columns to
+     * a board.
+     *
+     * @param source the board to transform.
+     * @param numbers the new label of each number, with 0 mapped to 0.
+     * @param rows the source row of each row.
+     * @param cols the source column of each column.
+     * @return the transformed board.
+     */
+    private static int[][] transform(int[][] source, int[] numbers, int[] rows, int[] cols) {
+        int[][] board = new int[6][6];
+        for (int row = 0; row < 6; row++) {
+            for (int col = 0; col < 6; col++) {
+                board[row][col] = numbers[source[rows[row]][cols[col]]];
+            }
+        }
+        return board;
+    }
+
+    /**
+     * Builds a random order of lines that keeps lines of the same block
+     * together: the groups are shuffled, and the lines within each group.
+     *
+     * @param groups the number of groups of lines.
+     * @param groupSize the number of lines in each group.
+     * @param random the source of randomness.
+     * @return the source line of each line.
+     */
+    private static int[] blockOrder(int groups, int groupSize, Random random) {
+        int[] groupOrder = shuffledIdentity(groups, 0, random);
+        int[] order = new int[groups * groupSize];
+        for (int group = 0; group < groups; group++) {
+            int[] lineOrder = shuffledIdentity(groupSize, 0, random);
+            for (int line = 0; line < groupSize; line++) {
+                order[group * groupSize + line] = groupOrder[group] * groupSize + lineOrder[line];
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Builds the identity permutation of the given length and shuffles the
+     * entries from the given index onwards.
+     *
+     * @param length the length of the permutation.
+     * @param from the first index to shuffle.
+     * @param random the source of randomness.
+     * @return the shuffled permutation.
+     */
+    private static int[] shuffledIdentity(int length, int from, Random random) {
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = i;
+        }
+        for (int i = length - 1; i > from; i--) {
+            int j = from + random.nextInt(i - from + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+        return values;
+    }
+
+    /**
+     * Identifies a puzzle in the cache.
+     *
+     * @param variant the rule variant of the puzzle.
+     * @param seed the seed of the puzzle.
+     */
+    private record Key(Variant variant, long seed) {
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.miniproyecto2.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Describes the regions of a 6x6 board: every row, every column, the six
+ * boxes, and optionally extra regions such as the two diagonals. Each region
+ * must contain the numbers 1 to 6 exactly once.
+ * <p>
+ * The peers of every cell (the other cells sharing a region with it) are
+ * compiled once into flat index tables, so checking a move costs the same
+ * for any layout. Cells are indexed as {@code row * 6 + col}.
+ */
+public final class RegionLayout {
+
+    /**
+     * The number of rows and columns of the board.
+     */
+    public static final int SIZE = 6;
+
+    /**
+     * The number of cells of the board.
+     */
+    public static final int CELLS = SIZE * SIZE;
+
+    /**
+     * The box of each cell in the classic layouts: 2x3 boxes.
+     */
+    private static final int[][] CLASSIC_BOXES = {
+            {0, 0, 0, 1, 1, 1},
+            {0, 0, 0, 1, 1, 1},
+            {2, 2, 2, 3, 3, 3},
+            {2, 2, 2, 3, 3, 3},
+            {4, 4, 4, 5, 5, 5},
+            {4, 4, 4, 5, 5, 5}
+    };
+
+    /**
+     * The classic layout, with 2x3 boxes.
+     */
+    public static final RegionLayout CLASSIC = fromBoxes(CLASSIC_BOXES, false);
+
+    /**
+     * The classic layout in which both diagonals are regions too.
+     */
+    public static final RegionLayout DIAGONAL = fromBoxes(CLASSIC_BOXES, true);
+
+    /**
+     * A jigsaw layout, with irregular boxes.
+     */
+    public static final RegionLayout JIGSAW = fromBoxes(new int[][]{
+            {0, 0, 0, 1, 1, 1},
+            {0, 2, 0, 1, 3, 1},
+            {2, 2, 0, 3, 3, 1},
+            {2, 4, 4, 3, 5, 5},
+            {2, 4, 4, 3, 5, 5},
+            {2, 4, 4, 3, 5, 5}
+    }, false);
+
+    private final int[] boxes;
+    private final boolean[] inExtraRegion;
+    private final int[][] regions;
+    private final int[] peerStart;
+    private final int[] peers;
+    private final int[] peerRows;
+    private final int[] peerCols;
+
+    /**
+     * Constructs a new RegionLayout and compiles its peer tables.
+     *
+     * @param boxes the box of each cell.
+     * @param extraRegions the regions that are neither rows, columns nor boxes.
+     */
+    private RegionLayout(int[] boxes, int[][] extraRegions) {
+        this.boxes = boxes;
+        this.inExtraRegion = new boolean[CELLS];
+
+        List<int[]> allRegions = new ArrayList<>();
+        for (int line = 0; line < SIZE; line++) {
+            int[] row = new int[SIZE];
+            int[] col = new int[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                row[i] = line * SIZE + i;
+                col[i] = i * SIZE + line;
+            }
+            allRegions.add(row);
+            allRegions.add(col);
+        }
+        for (int box = 0; box < SIZE; box++) {
+            int[] region = new int[SIZE];
+            int size = 0;
+            for (int cell = 0; cell < CELLS; cell++) {
+                if (boxes[cell] == box) {
+                    region[size++] = cell;
+                }
+            }
+            if (size != SIZE) {
+                throw new IllegalArgumentException("Box " + box + " must have " + SIZE + " cells");
+            }
+            allRegions.add(region);
+        }
+        for (int[] region : extraRegions) {
+            for (int cell : region) {
+                inExtraRegion[cell] = true;
+            }
+            allRegions.add(region);
+        }
+        this.regions = allRegions.toArray(new int[0][]);
+
+        boolean[][] isPeer = new boolean[CELLS][CELLS];
+        for (int[] region : regions) {
+            for (int a : region) {
+                for (int b : region) {
+                    isPeer[a][b] = a != b;
+                }
+            }
+        }
+        this.peerStart = new int[CELLS + 1];
+        int count = 0;
+        for (int cell = 0; cell < CELLS; cell++) {
+            peerStart[cell] = count;
+            for (int other = 0; other < CELLS; other++) {
+                if (isPeer[cell][other]) {
+                    count++;
+                }
+            }
+        }
+        peerStart[CELLS] = count;
+        this.peers = new int[count];
+        this.peerRows = new int[count];
+        this.peerCols = new int[count];
+        int index = 0;
+        for (int cell = 0; cell < CELLS; cell++) {
+            for (int other = 0; other < CELLS; other++) {
+                if (isPeer[cell][other]) {
+                    peers[index] = other;
+                    peerRows[index] = other / SIZE;
+                    peerCols[index] = other % SIZE;
+                    index++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a layout from a map of boxes.
+     *
+     * @param boxMap the box, from 0 to 5, of each cell.
+     * @param diagonals whether both diagonals are regions too.
+     * @return the layout.
+     */
+    public static RegionLayout fromBoxes(int[][] boxMap, boolean diagonals) {
+        int[] boxes = new int[CELLS];
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                boxes[row * SIZE + col] = boxMap[row][col];
+            }
+        }
+        int[][] extraRegions = new int[diagonals ? 2 : 0][];
+        if (diagonals) {
+            extraRegions[0] = new int[SIZE];
+            extraRegions[1] = new int[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                extraRegions[0][i] = i * SIZE + i;
+                extraRegions[1][i] = i * SIZE + (SIZE - 1 - i);
+            }
+        }
+        return new RegionLayout(boxes, extraRegions);
+    }
+
+    /**
+     * Returns the number of regions of the layout.
+     *
+     * @return the number of regions.
+     */
+    public int getRegionCount() {
+        return regions.length;
+    }
+
+    /**
+     * Returns the cells of a region. The returned array must not be modified.
+     *
+     * @param region the index of the region.
+     * @return the cell indices of the region.
+     */
+    int[] getRegion(int region) {
+        return regions[region];
+    }
+
+    /**
+     * Returns the box of a cell.
+     *
+     * @param row the row index.
+     * @param col the column index.
+     * @return the box of the cell.
+     */
+    public int getBox(int row, int col) {
+        return boxes[row * SIZE + col];
+    }
+
+    /**
+     * Checks if a cell belongs to a region that is neither a row, a column
+     * nor a box, such as a diagonal.
+     *
+     * @param row the row index.
+     * @param col the column index.
+     * @return true if the cell is in an extra region, false otherwise.
+     */
+    public boolean isInExtraRegion(int row, int col) {
+        return inExtraRegion[row * SIZE + col];
+    }
+
+    /**
+     * Returns the index of the first peer of a cell in the peer tables.
+     *
+     * @param cell the cell index.
+     * @return the first peer index.
+     */
+    public int peerStart(int cell) {
+        return peerStart[cell];
+    }
+
+    /**
+     * Returns the index after the last peer of a cell in the peer tables.
+     *
+     * @param cell the cell index.
+     * @return the end peer index.
+     */
+    public int peerEnd(int cell) {
+        return peerStart[cell + 1];
+    }
+
+    /**
+     * Returns the cell index of an entry of the peer tables.
+     *
+     * @param index the peer index.
+     * @return the cell index of the peer.
+     */
+    public int peer(int index) {
+        return peers[index];
+    }
+
+    /**
+     * Returns the row of an entry of the peer tables.
+     *
+     * @param index the peer index.
+     * @return the row index of the peer.
+     */
+    public int peerRow(int index) {
+        return peerRows[index];
+    }
+
+    /**
+     * Returns the column of an entry of the peer tables.
+     *
+     * @param index the peer index.
+     * @return the column index of the peer.
+     */
+    public int peerCol(int index) {
+        return peerCols[index];
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.miniproyecto2.model;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * Bounded, lock-free transposition table mapping the Zobrist hash of a board
+ * state to its {@link SolveResult}. The table has a fixed number of slots;
+ * a new result always replaces the one in its slot, so memory use never
+ * grows. It is shared by every game, so sessions playing the same seed, or
+ * coming back to a state after an undo, reuse each other's results.
+ */
+public final class SolveCache {
+
+    private static final int DEFAULT_CAPACITY = 1 << 14;
+
+    /**
+     * The cache shared by every game.
+     */
+    public static final SolveCache SHARED = new SolveCache(DEFAULT_CAPACITY);
+
+    private final AtomicReferenceArray<Entry> slots;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructs a new SolveCache.
+     *
+     * @param capacity the number of slots, rounded up to a power of two.
+     */
+    public SolveCache(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns the result for a board hash, computing and storing it if the
+     * table does not hold it.
+     *
+     * @param hash the Zobrist hash of the board state.
+     * @param solver the function computing the result of a missing hash.
+     * @return the cached or computed result.
+     */
+    public SolveResult get(long hash, LongFunction<SolveResult> solver) {
+        int slot = (int) (hash ^ (hash >>> 32)) & mask;
+        Entry entry = slots.get(slot);
+        if (entry != null && entry.hash == hash) {
+            hits.increment();
+            return entry.result;
+        }
+        misses.increment();
+        SolveResult result = solver.apply(hash);
+        slots.set(slot, new Entry(hash, result));
+        return result;
+    }
+
+    /**
+     * Returns the number of lookups answered from the table.
+     *
+     * @return the number of hits.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to be computed.
+     *
+     * @return the number of misses.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private record Entry(long hash, SolveResult result) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.miniproyecto2.model;
+
+/**
+ * What the solver found out about a board state: one solution, how many
+ * solutions there are, and the next logical step.
+ */
+public final class SolveResult {
+
+    private final int[][] solution;
+    private final int solutionCount;
+    private final Hint nextStep;
+
+    /**
+     * Constructs a new SolveResult. The solution is owned by the result and
+     * must not be modified afterwards.
+     *
+     * @param solution a solution of the board, or null if it has none.
+     * @param solutionCount the number of solutions, counted up to 2.
+     * @param nextStep a cell whose number is forced, or null if there is none.
+     */
+    SolveResult(int[][] solution, int solutionCount, Hint nextStep) {
+        this.solution = solution;
+        this.solutionCount = solutionCount;
+        this.nextStep = nextStep;
+    }
+
+    /**
+     * Returns a copy of a solution of the board.
+     *
+     * @return the solution, or null if the board has none.
+     */
+    public int[][] getSolution() {
+        return solution == null ? null : Puzzle.copy(solution);
+    }
+
+    /**
+     * Returns the number of solutions of the board, counted up to 2.
+     *
+     * @return 0 if the board is unsolvable, 1 if its solution is unique, or 2
+     * if it has several.
+     */
+    public int getSolutionCount() {
+        return solutionCount;
+    }
+
+    /**
+     * Returns the next logical step: an empty cell that has a single
+     * candidate left.
+     *
+     * @return the step, or null if no cell has a single candidate.
+     */
+    public Hint getNextStep() {
+        return nextStep;
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.miniproyecto2.model;
+
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Backtracking solver for 6x6 boards of any {@link RegionLayout}, optionally
+ * with Killer {@link Cages}. Candidates are kept as bitmasks, with bit
+ * {@code n} set when number {@code n} can be placed, pruned by the cage
+ * masks of {@link CageTable}, and the search always branches on the empty
+ * cell with the fewest candidates.
+ */
+final class Solver {
+
+    /**
+     * Bitmask with the bits of the numbers 1 to 6 set.
+     */
+    static final int ALL_NUMBERS = 0b1111110;
+
+    private final RegionLayout layout;
+    private final Cages cages;
+    private final int[] cells = new int[RegionLayout.CELLS];
+    private final Random random;
+    private int limit;
+    private int solutions;
+    private int[] firstSolution;
+
+    private Solver(RegionLayout layout, Cages cages, Random random) {
+        this.layout = layout;
+        this.cages = cages;
+        this.random = random;
+    }
+
+    /**
+     * Counts the solutions of a board, stopping once the limit is reached.
+     *
+     * @param board the board, with zeros for empty cells.
+     * @param layout the regions of the board.
+     * @param cages the cages of the board.
+     * @param limit the maximum number of solutions to count.
+     * @return the number of solutions, at most the limit.
+     */
+    static int countSolutions(int[][] board, RegionLayout layout, Cages cages, int limit) {
+        Solver solver = new Solver(layout, cages, null);
+        return solver.run(board, limit) ? solver.solutions : 0;
+    }
+
+    /**
+     * Solves a board.
+     *
+     * @param board the board, with zeros for empty cells.
+     * @param layout the regions of the board.
+     * @param cages the cages of the board.
+     * @return the first solution found, or null if the board has none.
+     */
+    static int[][] solve(int[][] board, RegionLayout layout, Cages cages) {
+        Solver solver = new Solver(layout, cages, null);
+        return solver.run(board, 1) ? toBoard(solver.firstSolution) : null;
+    }
+
+    /**
+     * Builds a random full board that satisfies every region of the layout.
+     *
+     * @param layout the regions of the board.
+     * @param random the source of randomness.
+     * @return the full board.
+     */
+    static int[][] randomSolution(RegionLayout layout, Random random) {
+        Solver solver = new Solver(layout, Cages.NONE, random);
+        solver.run(new int[RegionLayout.SIZE][RegionLayout.SIZE], 1);
+        return toBoard(solver.firstSolution);
+    }
+
+    /**
+     * Returns the candidates of a cell: the numbers none of its peers hold
+     * that can also still complete its cage, if it has one.
+     *
+     * @param cells the board as cell values.
+     * @param layout the regions of the board.
+     * @param cages the cages of the board.
+     * @param cell the cell index.
+     * @return the bitmask of candidates.
+     */
+    static int candidates(int[] cells, RegionLayout layout, Cages cages, int cell) {
+        int used = 0;
+        for (int i = layout.peerStart(cell), end = layout.peerEnd(cell); i < end; i++) {
+            used |= 1 << cells[layout.peer(i)];
+        }
+        int mask = ALL_NUMBERS & ~used;
+        int cage = cages.getCage(cell);
+        if (cage >= 0) {
+            int cageUsed = 0;
+            for (int other : cages.getCells(cage)) {
+                if (other != cell) {
+                    cageUsed |= 1 << cells[other];
+                }
+            }
+            mask &= cages.allowed(cage, cageUsed & ALL_NUMBERS);
+        }
+        return mask;
+    }
+
+    /**
+     * Analyzes a board: counts its solutions up to 2, keeps the first one,
+     * and finds the next logical step.
+     *
+     * @param board the board, with zeros for empty cells.
+     * @param layout the regions of the board.
+     * @param cages the cages of the board.
+     * @return the result of the analysis.
+     */
+    static SolveResult analyze(int[][] board, RegionLayout layout, Cages cages) {
+        Solver solver = new Solver(layout, cages, null);
+        if (!solver.run(board, 2)) {
+            return new SolveResult(null, 0, null);
+        }
+        int[][] solution = solver.solutions == 0 ? null : toBoard(solver.firstSolution);
+        return new SolveResult(solution, solver.solutions, findSingle(toCells(board), layout, cages));
+    }
+
+    /**
+     * Finds an empty cell with a single candidate left.
+     *
+     * @param cells the board as cell values.
+     * @param layout the regions of the board.
+     * @param cages the cages of the board.
+     * @return the forced number of that cell, or null if there is no such cell.
+     */
+    private static Hint findSingle(int[] cells, RegionLayout layout, Cages cages) {
+        for (int cell = 0; cell < RegionLayout.CELLS; cell++) {
+            if (cells[cell] == 0) {
+                int mask = candidates(cells, layout, cages, cell);
+                if (Integer.bitCount(mask) == 1) {
+                    return new Hint(cell / RegionLayout.SIZE, cell % RegionLayout.SIZE,
+                            Integer.numberOfTrailingZeros(mask));
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Loads the board and searches it.
+     *
+     * @param board the board to search.
+     * @param limit the maximum number of solutions to look for.
+     * @return false if the givens already break a region, true otherwise.
+     */
+    private boolean run(int[][] board, int limit) {
+        this.limit = limit;
+        for (int row = 0; row < RegionLayout.SIZE; row++) {
+            for (int col = 0; col < RegionLayout.SIZE; col++) {
+                cells[row * RegionLayout.SIZE + col] = board[row][col];
+            }
+        }
+        for (int cell = 0; cell < RegionLayout.CELLS; cell++) {
+            int number = cells[cell];
+            if (number != 0 && (candidates(cells, layout, cages, cell) & (1 << number)) == 0) {
+                return false;
+            }
+        }
+        search();
+        return true;
+    }
+
+    /**
+     * Fills the empty cell with the fewest candidates with each of them in
+     * turn, recursing until the board is full or the limit is reached.
+     *
+     * @throws CancellationException if the thread is interrupted during the
+     *                               search.
+     */
+    private void search() {
+        if (Thread.interrupted()) {
+            throw new CancellationException("Search interrupted");
+        }
+        int bestCell = -1;
+        int bestMask = 0;
+        int bestCount = Integer.MAX_VALUE;
+        for (int cell = 0; cell < RegionLayout.CELLS; cell++) {
+            if (cells[cell] == 0) {
+                int mask = candidates(cells, layout, cages, cell);
+                int count = Integer.bitCount(mask);
+                if (count == 0) {
+                    return;
+                }
+                if (count < bestCount) {
+                    bestCell = cell;
+                    bestMask = mask;
+                    bestCount = count;
+                }
+            }
+        }
+        if (bestCell < 0) {
+            if (solutions++ == 0) {
+                firstSolution = cells.clone();
+            }
+            return;
+        }
+
+        int[] order = new int[bestCount];
+        for (int i = 0, mask = bestMask; mask != 0; mask &= mask - 1) {
+            order[i++] = Integer.numberOfTrailingZeros(mask);
+        }
+        if (random != null) {
+            for (int i = order.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = order[i];
+                order[i] = order[j];
+                order[j] = swap;
+            }
+        }
+        for (int number : order) {
+            cells[bestCell] = number;
+            search();
+            if (solutions >= limit) {
+                break;
+            }
+        }
+        cells[bestCell] = 0;
+    }
+
+    /**
+     * Converts a board into cell values.
+     *
+     * @param board the board.
+     * @return the cell values.
+     */
+    private static int[] toCells(int[][] board) {
+        int[] cells = new int[RegionLayout.CELLS];
+        for (int cell = 0; cell < RegionLayout.CELLS; cell++) {
+            cells[cell] = board[cell / RegionLayout.SIZE][cell % RegionLayout.SIZE];
+        }
+        return cells;
+    }
+
+    /**
+     * Converts cell values back into a board.
+     *
+     * @param cells the cell values.
+     * @return the board.
+     */
+    private static int[][] toBoard(int[] cells) {
+        int[][] board = new int[RegionLayout.SIZE][RegionLayout.SIZE];
+        for (int cell = 0; cell < RegionLayout.CELLS; cell++) {
+            board[cell / RegionLayout.SIZE][cell % RegionLayout.SIZE] = cells[cell];
+        }
+        return board;
+    }
+}
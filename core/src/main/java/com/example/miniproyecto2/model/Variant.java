@@ -0,0 +1,48 @@
+package com.example.miniproyecto2.model;
+
+/**
+ * The rule variants a game can be played with.
+ */
+public enum Variant {
+    CLASSIC("Clásico", RegionLayout.CLASSIC, false),
+    DIAGONAL("Diagonal", RegionLayout.DIAGONAL, false),
+    JIGSAW("Irregular", RegionLayout.JIGSAW, false),
+    KILLER("Killer", RegionLayout.CLASSIC, true);
+
+    private final String displayName;
+    private final RegionLayout layout;
+    private final boolean killer;
+
+    Variant(String displayName, RegionLayout layout, boolean killer) {
+        this.displayName = displayName;
+        this.layout = layout;
+        this.killer = killer;
+    }
+
+    /**
+     * Returns the name shown to the player.
+     *
+     * @return the display name.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Returns the regions of the variant.
+     *
+     * @return the region layout.
+     */
+    public RegionLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Checks if the variant adds Killer cages on top of its regions.
+     *
+     * @return true if the variant has cages, false otherwise.
+     */
+    public boolean isKiller() {
+        return killer;
+    }
+}
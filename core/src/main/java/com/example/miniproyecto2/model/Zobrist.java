@@ -0,0 +1,74 @@
+package com.example.miniproyecto2.model;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist keys for hashing 6x6 boards. The hash of a board is the XOR of
+ * the key of every (cell, number) pair on it, so placing or removing a
+ * number updates it in constant time. Keys come from a fixed seed, so the
+ * same board has the same hash in every game and every JVM.
+ */
+final class Zobrist {
+
+    private static final long[] KEYS = new long[RegionLayout.CELLS * 7];
+    private static final long[] VARIANT_KEYS = new long[Variant.values().length];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EED5D0C0L);
+        for (int cell = 0; cell < RegionLayout.CELLS; cell++) {
+            for (int number = 1; number <= RegionLayout.SIZE; number++) {
+                KEYS[cell * 7 + number] = random.nextLong();
+            }
+        }
+        for (int variant = 0; variant < VARIANT_KEYS.length; variant++) {
+            VARIANT_KEYS[variant] = random.nextLong();
+        }
+    }
+
+    private Zobrist() {
+    }
+
+    /**
+     * Returns the key of a number in a cell. The key of an empty cell is 0.
+     *
+     * @param cell the cell index.
+     * @param number the number, or 0 for an empty cell.
+     * @return the key.
+     */
+    static long key(int cell, int number) {
+        return KEYS[cell * 7 + number];
+    }
+
+    /**
+     * Returns the key of the rules a board is played with: the variant and,
+     * for variants whose constraints depend on the puzzle, such as Killer
+     * cages, the seed of the puzzle.
+     *
+     * @param variant the rule variant.
+     * @param seed the seed of the puzzle.
+     * @return the key.
+     */
+    static long rulesKey(Variant variant, long seed) {
+        long key = VARIANT_KEYS[variant.ordinal()];
+        if (variant.isKiller()) {
+            long z = (seed ^ key) * 0xBF58476D1CE4E5B9L;
+            key ^= z ^ (z >>> 31);
+        }
+        return key;
+    }
+
+    /**
+     * Computes the hash of a board from scratch.
+     *
+     * @param board the board.
+     * @param rulesKey the key of the rules of the board.
+     * @return the hash.
+     */
+    static long hash(int[][] board, long rulesKey) {
+        long hash = rulesKey;
+        for (int cell = 0; cell < RegionLayout.CELLS; cell++) {
+            hash ^= key(cell, board[cell / RegionLayout.SIZE][cell % RegionLayout.SIZE]);
+        }
+        return hash;
+    }
+}
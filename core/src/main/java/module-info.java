@@ -0,0 +1,3 @@
+module com.example.miniproyecto2.core {
+    exports com.example.miniproyecto2.model;
+}
@@ -0,0 +1,77 @@
+package com.example.miniproyecto2.model;
+
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * Times {@link BulkValidator} against the scalar checks of
+ * {@link Game#isGameOver()} on a batch of solved and corrupted boards. That
+ * both agree is checked by {@link BulkValidatorTest}.
+ * <p>
+ * Run after {@code mvn test-compile} with:
+ * <pre>
+ * java -cp core/target/classes:core/target/test-classes com.example.miniproyecto2.model.BulkValidatorBenchmark
+ * </pre>
+ */
+public class BulkValidatorBenchmark {
+
+    private static final int BOARDS = 1 << 18;
+    private static final int ROUNDS = 10;
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        int[][][] boards = new int[BOARDS][][];
+        long[] packed = new long[BOARDS * BulkValidator.LONGS_PER_BOARD];
+        for (int index = 0; index < BOARDS; index++) {
+            int[][] board = PuzzleGenerator.get(random.nextInt(1024)).getAnswer();
+            if (random.nextBoolean()) {
+                int row = random.nextInt(6);
+                board[row][random.nextInt(6)] = board[row][random.nextInt(6)];
+            }
+            boards[index] = board;
+            BulkValidator.pack(board, packed, index);
+        }
+
+        Game game = new Game();
+        BulkValidator validator = new BulkValidator(RegionLayout.CLASSIC);
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            scalar(game, boards);
+            long scalarNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            validator.validate(packed, BOARDS);
+            long bulkNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            validator.validateParallel(packed, BOARDS);
+            long parallelNanos = System.nanoTime() - start;
+
+            System.out.printf("round %d: scalar %.1f ns/board, bulk %.1f ns/board, bulk parallel %.1f ns/board%n",
+                    round, (double) scalarNanos / BOARDS, (double) bulkNanos / BOARDS,
+                    (double) parallelNanos / BOARDS);
+        }
+    }
+
+    /**
+     * Validates every board by copying it into the game and calling
+     * {@link Game#isGameOver()}.
+     *
+     * @param game the game used to validate.
+     * @param boards the boards to validate.
+     * @return the set of indices of the valid boards.
+     */
+    private static BitSet scalar(Game game, int[][][] boards) {
+        BitSet valid = new BitSet(boards.length);
+        int[][] target = game.getBoard();
+        for (int index = 0; index < boards.length; index++) {
+            for (int row = 0; row < 6; row++) {
+                System.arraycopy(boards[index][row], 0, target[row], 0, 6);
+            }
+            if (game.isGameOver()) {
+                valid.set(index);
+            }
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.miniproyecto2.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks {@link BulkValidator} against the scalar checks of
+ * {@link Game#isGameOver()}, and the edge cases of its SWAR range check.
+ */
+class BulkValidatorTest {
+
+    private static final int BOARDS = 4096;
+
+    @Test
+    void agreesWithScalarValidation() {
+        for (Variant variant : new Variant[]{Variant.CLASSIC, Variant.DIAGONAL}) {
+            int[][][] boards = randomBoards(variant, new Random(42));
+            long[] packed = pack(boards);
+            BulkValidator validator = new BulkValidator(variant.getLayout());
+            BitSet expected = scalar(variant, boards);
+
+            assertTrue(expected.cardinality() > 0 && expected.cardinality() < BOARDS, variant + " mix");
+            assertEquals(expected, validator.validate(packed, BOARDS), variant + " validate");
+            assertEquals(expected, validator.validateParallel(packed, BOARDS), variant + " validateParallel");
+        }
+    }
+
+    @Test
+    void rejectsZeroAndSevenInEveryLane() {
+        BulkValidator validator = new BulkValidator(RegionLayout.CLASSIC);
+        int[][] answer = PuzzleGenerator.get(Variant.CLASSIC, 7).getAnswer();
+        long[] packed = new long[BulkValidator.LONGS_PER_BOARD];
+        BulkValidator.pack(answer, packed, 0);
+        assertTrue(validator.isValid(packed, 0));
+
+        for (int cell = 0; cell < RegionLayout.CELLS; cell++) {
+            for (int number : new int[]{0, 7}) {
+                int[][] board = copy(answer);
+                board[cell / RegionLayout.SIZE][cell % RegionLayout.SIZE] = number;
+                BulkValidator.pack(board, packed, 0);
+                assertFalse(validator.isValid(packed, 0), "cell " + cell + " holding " + number);
+            }
+        }
+    }
+
+    @Test
+    void rejectsStrayBitsAboveTheLanes() {
+        BulkValidator validator = new BulkValidator(RegionLayout.CLASSIC);
+        int[][] answer = PuzzleGenerator.get(Variant.CLASSIC, 7).getAnswer();
+        long[] packed = new long[BulkValidator.LONGS_PER_BOARD];
+        for (int word = 0; word < BulkValidator.LONGS_PER_BOARD; word++) {
+            for (int bit = 3 * RegionLayout.CELLS / BulkValidator.LONGS_PER_BOARD; bit < Long.SIZE; bit++) {
+                BulkValidator.pack(answer, packed, 0);
+                packed[word] |= 1L << bit;
+                assertFalse(validator.isValid(packed, 0), "word " + word + " bit " + bit);
+            }
+        }
+    }
+
+    @Test
+    void checksTheDiagonalsOnlyInTheDiagonalLayout() {
+        BulkValidator classic = new BulkValidator(RegionLayout.CLASSIC);
+        BulkValidator diagonal = new BulkValidator(RegionLayout.DIAGONAL);
+        long[] packed = new long[BulkValidator.LONGS_PER_BOARD];
+        int rejected = 0;
+        for (long seed = 0; seed < 64; seed++) {
+            BulkValidator.pack(PuzzleGenerator.get(Variant.CLASSIC, seed).getAnswer(), packed, 0);
+            assertTrue(classic.isValid(packed, 0));
+            if (!diagonal.isValid(packed, 0)) {
+                rejected++;
+            }
+
+            BulkValidator.pack(PuzzleGenerator.get(Variant.DIAGONAL, seed).getAnswer(), packed, 0);
+            assertTrue(classic.isValid(packed, 0));
+            assertTrue(diagonal.isValid(packed, 0));
+        }
+        assertTrue(rejected > 0, "no classic answer broke a diagonal");
+    }
+
+    @Test
+    void validatesRangesNotAlignedToWords() {
+        int[][][] boards = randomBoards(Variant.CLASSIC, new Random(7));
+        long[] packed = pack(boards);
+        BulkValidator validator = new BulkValidator(RegionLayout.CLASSIC);
+        BitSet expected = scalar(Variant.CLASSIC, boards);
+        int from = 37;
+        int to = 251;
+
+        long[] result = new long[(BOARDS + 63) / 64];
+        Arrays.fill(result, -1L);
+        validator.validate(packed, from, to, result);
+
+        BitSet actual = BitSet.valueOf(result);
+        for (int index = 0; index < BOARDS; index++) {
+            boolean inRange = index >= from && index < to;
+            assertEquals(!inRange || expected.get(index), actual.get(index), "board " + index);
+        }
+    }
+
+    /**
+     * Returns solved boards of a variant, half of them with two cells of a
+     * row holding the same number.
+     */
+    private static int[][][] randomBoards(Variant variant, Random random) {
+        int[][][] boards = new int[BOARDS][][];
+        for (int index = 0; index < BOARDS; index++) {
+            int[][] board = PuzzleGenerator.get(variant, random.nextInt(256)).getAnswer();
+            if (random.nextBoolean()) {
+                int row = random.nextInt(6);
+                board[row][random.nextInt(6)] = board[row][random.nextInt(6)];
+            }
+            boards[index] = board;
+        }
+        return boards;
+    }
+
+    private static long[] pack(int[][][] boards) {
+        long[] packed = new long[boards.length * BulkValidator.LONGS_PER_BOARD];
+        for (int index = 0; index < boards.length; index++) {
+            BulkValidator.pack(boards[index], packed, index);
+        }
+        return packed;
+    }
+
+    /**
+     * Validates every board by copying it into a game of the variant and
+     * calling {@link Game#isGameOver()}.
+     */
+    private static BitSet scalar(Variant variant, int[][][] boards) {
+        Game game = Game.withEmptyBoard(variant);
+        int[][] target = game.getBoard();
+        BitSet valid = new BitSet(boards.length);
+        for (int index = 0; index < boards.length; index++) {
+            for (int row = 0; row < 6; row++) {
+                System.arraycopy(boards[index][row], 0, target[row], 0, 6);
+            }
+            if (game.isGameOver()) {
+                valid.set(index);
+            }
+        }
+        return valid;
+    }
+
+    private static int[][] copy(int[][] board) {
+        int[][] copy = new int[board.length][];
+        for (int row = 0; row < board.length; row++) {
+            copy[row] = board[row].clone();
+        }
+        return copy;
+    }
+}
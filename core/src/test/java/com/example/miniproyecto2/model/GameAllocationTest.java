@@ -0,0 +1,147 @@
+package com.example.miniproyecto2.model;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation budgets for the calls made on every keystroke. Each call runs
+ * for millions of iterations after a warm-up, and the bytes allocated by the
+ * test thread are compared with the budget of the call. Pure model calls
+ * must not allocate at all.
+ */
+class GameAllocationTest {
+
+    private static final int WARM_UP_ITERATIONS = 200_000;
+    private static final int ITERATIONS = 2_000_000;
+    private static final int SEARCH_WARM_UP_ITERATIONS = 20_000;
+    private static final int SEARCH_ITERATIONS = 100_000;
+    private static final String[] NUMBERS = {"1", "2", "3", "4", "5", "6"};
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    @BeforeAll
+    static void setUpThreadMXBean() {
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "Thread allocation accounting not supported");
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    void isValidMoveDoesNotAllocate() {
+        for (Variant variant : Variant.values()) {
+            Game game = newGame(variant);
+            assertBudget(variant + " isValidMove", 0, i -> game.isValidMove(1 + i % 6, i % 6, (i / 6) % 6));
+        }
+    }
+
+    @Test
+    void makeMoveDoesNotAllocate() {
+        for (Variant variant : Variant.values()) {
+            Game game = newGame(variant);
+            int cell = firstEmptyCell(game);
+            assertBudget(variant + " makeMove", 0, i -> game.makeMove(NUMBERS[i % 6], cell / 6, cell % 6));
+        }
+    }
+
+    @Test
+    void isBoardFullDoesNotAllocate() {
+        Game game = newGame(Variant.CLASSIC);
+        assertBudget("isBoardFull", 0, i -> game.isBoardFull());
+        solve(game);
+        assertBudget("isBoardFull on a full board", 0, i -> game.isBoardFull());
+    }
+
+    @Test
+    void isGameOverDoesNotAllocate() {
+        for (Variant variant : Variant.values()) {
+            Game game = newGame(variant);
+            solve(game);
+            assertTrue(game.isGameOver());
+            assertBudget(variant + " isGameOver", 0, i -> game.isGameOver());
+        }
+    }
+
+    @Test
+    void findDeadEndDoesNotAllocate() {
+        for (Variant variant : Variant.values()) {
+            Game game = newGame(variant);
+            assertBudget(variant + " findDeadEnd", 0, SEARCH_WARM_UP_ITERATIONS, SEARCH_ITERATIONS,
+                    i -> game.findDeadEnd());
+        }
+    }
+
+    /**
+     * Runs a call for the warm-up iterations, then measures the bytes it
+     * allocates over the measured iterations.
+     *
+     * @param name the name of the call, for the failure message.
+     * @param budget the maximum number of bytes allowed.
+     * @param call the call, given the iteration number.
+     */
+    private static void assertBudget(String name, long budget, IntConsumer call) {
+        assertBudget(name, budget, WARM_UP_ITERATIONS, ITERATIONS, call);
+    }
+
+    /**
+     * Runs a slower call for fewer iterations, then measures the bytes it
+     * allocates.
+     *
+     * @param name the name of the call, for the failure message.
+     * @param budget the maximum number of bytes allowed.
+     * @param warmUpIterations the number of warm-up iterations.
+     * @param iterations the number of measured iterations.
+     * @param call the call, given the iteration number.
+     */
+    private static void assertBudget(String name, long budget, int warmUpIterations, int iterations,
+                                     IntConsumer call) {
+        for (int i = 0; i < warmUpIterations; i++) {
+            call.accept(i);
+        }
+        long overhead = measure(i -> { }, 1);
+        long allocated = measure(call, iterations) - overhead;
+        assertTrue(allocated <= budget,
+                name + " allocated " + allocated + " bytes over " + iterations + " calls, budget is " + budget);
+    }
+
+    private static long measure(IntConsumer call, int iterations) {
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            call.accept(i);
+        }
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private static Game newGame(Variant variant) {
+        Game game = new Game(variant);
+        game.initializeBoard(42);
+        return game;
+    }
+
+    private static int firstEmptyCell(Game game) {
+        int[][] board = game.getBoard();
+        for (int cell = 0; cell < 36; cell++) {
+            if (board[cell / 6][cell % 6] == 0) {
+                return cell;
+            }
+        }
+        throw new IllegalStateException("The board has no empty cell");
+    }
+
+    private static void solve(Game game) {
+        int[][] answer = game.getAnswerBoard();
+        for (int row = 0; row < 6; row++) {
+            for (int col = 0; col < 6; col++) {
+                if (game.getBoard()[row][col] == 0) {
+                    game.makeMove(NUMBERS[answer[row][col] - 1], row, col);
+                }
+            }
+        }
+    }
+}
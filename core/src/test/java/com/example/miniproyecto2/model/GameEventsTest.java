@@ -0,0 +1,99 @@
+package com.example.miniproyecto2.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the events of a {@link Game} never stall a move: a subscriber
+ * that stops requesting events only loses the events past its buffer.
+ */
+class GameEventsTest {
+
+    private static final int MOVES = 10_000;
+
+    @Test
+    void stalledSubscriberOnlyDropsEvents() throws InterruptedException {
+        Game game = Game.withEmptyBoard(Variant.CLASSIC);
+        game.initializeBoard(42);
+        int cell = firstEmptyCell(game);
+        int row = cell / RegionLayout.SIZE;
+        int col = cell % RegionLayout.SIZE;
+        StalledSubscriber subscriber = new StalledSubscriber();
+        game.events().subscribe(subscriber);
+        assertTrue(subscriber.subscribed.await(5, TimeUnit.SECONDS));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int move = 0; move < MOVES; move++) {
+                game.makeMove(String.valueOf(1 + move % RegionLayout.SIZE), row, col);
+            }
+        });
+        assertEquals(0, subscriber.received.get());
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        SubmissionPublisher<GameEvent> publisher = (SubmissionPublisher<GameEvent>) game.events();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (publisher.estimateMaximumLag() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        int buffered = subscriber.received.get();
+        assertTrue(buffered > 0 && buffered <= Game.EVENT_BUFFER_CAPACITY,
+                buffered + " events delivered out of " + MOVES);
+
+        game.clearCell(row, col);
+        assertTrue(subscriber.cleared.await(5, TimeUnit.SECONDS), "the event after the stall was not delivered");
+        game.close();
+    }
+
+    private static int firstEmptyCell(Game game) {
+        int[][] board = game.getBoard();
+        for (int cell = 0; cell < RegionLayout.CELLS; cell++) {
+            if (board[cell / RegionLayout.SIZE][cell % RegionLayout.SIZE] == 0) {
+                return cell;
+            }
+        }
+        throw new IllegalStateException("The board has no empty cell");
+    }
+
+    /**
+     * A subscriber that requests nothing until told to, then counts events
+     * and waits for the one clearing a cell.
+     */
+    private static class StalledSubscriber implements Flow.Subscriber<GameEvent> {
+        private final CountDownLatch subscribed = new CountDownLatch(1);
+        private final CountDownLatch cleared = new CountDownLatch(1);
+        private final AtomicInteger received = new AtomicInteger();
+        private volatile Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscribed.countDown();
+        }
+
+        @Override
+        public void onNext(GameEvent event) {
+            received.incrementAndGet();
+            if (event.type() == GameEvent.Type.MOVE && event.number() == 0) {
+                cleared.countDown();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
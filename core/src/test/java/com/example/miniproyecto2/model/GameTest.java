@@ -0,0 +1,61 @@
+package com.example.miniproyecto2.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the running cage totals of {@link Game} when a number is repeated
+ * in a cage, as a hint can do after the player placed the same number.
+ */
+class GameTest {
+
+    @Test
+    void repeatedCageNumberStaysUsedUntilItsLastCopyIsCleared() {
+        Game game = Game.withEmptyBoard(Variant.KILLER);
+        game.initializeBoard(0);
+        game.clearBoard();
+        int[] repeat = findRepeatableNumber(game);
+        int first = repeat[0];
+        int second = repeat[1];
+        int number = repeat[2];
+
+        game.makeMove(String.valueOf(number), first / 6, first % 6);
+        game.applyHint(new Hint(second / 6, second % 6, number));
+        game.clearCell(first / 6, first % 6);
+        assertFalse(game.isValidMove(number, first / 6, first % 6),
+                number + " is still in the cage of cell " + second);
+
+        game.clearCell(second / 6, second % 6);
+        assertTrue(game.isValidMove(number, first / 6, first % 6), number + " is free again");
+    }
+
+    /**
+     * Finds two cells of a cage that are not peers and a number both may
+     * hold on an empty board.
+     *
+     * @return the two cells and the number.
+     */
+    private static int[] findRepeatableNumber(Game game) {
+        Cages cages = game.getCages();
+        RegionLayout layout = game.getLayout();
+        for (int cage = 0; cage < cages.getCageCount(); cage++) {
+            int[] cells = cages.getCells(cage);
+            for (int first : cells) {
+                for (int second : cells) {
+                    boolean sameBox = layout.getBox(first / 6, first % 6) == layout.getBox(second / 6, second % 6);
+                    if (first == second || sameBox || first / 6 == second / 6 || first % 6 == second % 6) {
+                        continue;
+                    }
+                    for (int number = 1; number <= 6; number++) {
+                        if (game.isValidMove(number, first / 6, first % 6)) {
+                            return new int[]{first, second, number};
+                        }
+                    }
+                }
+            }
+        }
+        throw new IllegalStateException("No cage can repeat a number");
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.miniproyecto2.model;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks {@link GridIndex} on an index file written to a temporary
+ * directory: the number of grids, ranks and grids round-tripping, invalid
+ * grids having no rank, and damaged files being written again.
+ */
+class GridIndexTest {
+
+    private static final int SAMPLES = 200_000;
+    private static final int HEADER_BYTES = 2 * Long.BYTES;
+
+    @TempDir
+    static Path directory;
+
+    private static Path file;
+    private static GridIndex index;
+
+    @BeforeAll
+    static void openIndex() throws IOException {
+        file = directory.resolve("grids.bin");
+        index = GridIndex.open(file);
+    }
+
+    @Test
+    void enumeratesEveryGrid() {
+        assertEquals(GridIndex.CANONICAL_GRIDS, GridIndex.enumerate().length);
+        assertEquals(GridIndex.GRID_COUNT, index.size());
+        assertEquals(28_200_960L, GridIndex.GRID_COUNT);
+    }
+
+    @Test
+    void ranksRoundTrip() {
+        Random random = new Random(42);
+        BulkValidator validator = new BulkValidator(RegionLayout.CLASSIC);
+        long[] packed = new long[BulkValidator.LONGS_PER_BOARD];
+        for (int i = 0; i < SAMPLES; i++) {
+            long rank = i < 2 ? i * (index.size() - 1) : random.nextLong(index.size());
+            int[][] grid = index.grid(rank);
+            assertEquals(rank, index.rank(grid), "rank " + rank);
+            BulkValidator.pack(grid, packed, 0);
+            assertTrue(validator.isValid(packed, 0), "grid of rank " + rank);
+        }
+    }
+
+    @Test
+    void invalidGridsHaveNoRank() {
+        int[][] grid = index.grid(1_234_567L);
+
+        int[][] swapped = copy(grid);
+        swapped[2][0] = grid[2][1];
+        swapped[2][1] = grid[2][0];
+        assertEquals(-1, index.rank(swapped));
+
+        for (int number : new int[]{0, 7}) {
+            int[][] outOfRange = copy(grid);
+            outOfRange[3][4] = number;
+            assertEquals(-1, index.rank(outOfRange));
+        }
+
+        int[][] repeatedInFirstRow = copy(grid);
+        repeatedInFirstRow[0][5] = grid[0][0];
+        assertEquals(-1, index.rank(repeatedInFirstRow));
+
+        int[][] badLastRow = copy(grid);
+        badLastRow[5][0] = grid[5][1];
+        badLastRow[5][1] = grid[5][0];
+        assertEquals(-1, index.rank(badLastRow));
+    }
+
+    @Test
+    void rewritesDamagedFiles() throws IOException {
+        byte[] valid = Files.readAllBytes(file);
+        byte[] damaged = valid.clone();
+        Arrays.fill(damaged, HEADER_BYTES, damaged.length, (byte) 0xFF);
+        Path damagedFile = directory.resolve("damaged.bin");
+        Files.write(damagedFile, damaged);
+
+        GridIndex rebuilt = GridIndex.open(damagedFile);
+
+        assertArrayEquals(valid, Files.readAllBytes(damagedFile));
+        assertEquals(GridIndex.GRID_COUNT, rebuilt.size());
+        int[][] grid = rebuilt.sample(new Random(7));
+        assertEquals(index.rank(grid), rebuilt.rank(grid));
+    }
+
+    private static int[][] copy(int[][] grid) {
+        int[][] copy = new int[grid.length][];
+        for (int row = 0; row < grid.length; row++) {
+            copy[row] = grid[row].clone();
+        }
+        return copy;
+    }
+}
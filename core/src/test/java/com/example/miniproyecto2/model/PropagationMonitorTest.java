@@ -0,0 +1,124 @@
+package com.example.miniproyecto2.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks {@link PropagationMonitor} on board states reached by seeded random
+ * play: a dead end it reports is never solvable, and placing and clearing
+ * numbers leaves it exactly as a monitor built from scratch.
+ */
+class PropagationMonitorTest {
+
+    private static final int GAMES_PER_VARIANT = 25;
+    private static final int MOVES_PER_GAME = 60;
+
+    @Test
+    void deadEndsAreNeverSolvable() {
+        int states = 0;
+        int deadEnds = 0;
+        for (Variant variant : Variant.values()) {
+            for (int seed = 0; seed < GAMES_PER_VARIANT; seed++) {
+                Game game = newGame(variant, seed);
+                int[][] givens = game.copyBoard();
+                Random random = new Random(seed);
+                for (int move = 0; move < MOVES_PER_GAME; move++) {
+                    playRandomMove(game, givens, random);
+                    states++;
+                    int deadEnd = game.findDeadEnd();
+                    if (deadEnd >= 0) {
+                        deadEnds++;
+                        assertEquals(0, Solver.countSolutions(game.copyBoard(), game.getLayout(), game.getCages(), 1),
+                                variant + " seed " + seed + " move " + move + " dead end at " + deadEnd);
+                    }
+                }
+            }
+        }
+        assertTrue(deadEnds > 0 && deadEnds < states, deadEnds + " dead ends in " + states + " states");
+    }
+
+    @Test
+    void movesAndClearsMatchAFreshMonitor() {
+        for (Variant variant : Variant.values()) {
+            for (int seed = 0; seed < GAMES_PER_VARIANT; seed++) {
+                Game game = newGame(variant, seed);
+                int[][] givens = game.copyBoard();
+                Random random = new Random(seed);
+                for (int move = 0; move < MOVES_PER_GAME; move++) {
+                    playRandomMove(game, givens, random);
+                    PropagationMonitor fresh = new PropagationMonitor(game.getLayout(), game.getCages(),
+                            game.getBoard());
+                    assertEquals(fresh.findDeadEnd(), game.findDeadEnd(), variant + " seed " + seed + " move " + move);
+                }
+            }
+        }
+    }
+
+    @Test
+    void assignAndUnassignUndoEachOther() {
+        for (Variant variant : Variant.values()) {
+            Game game = newGame(variant, 7);
+            PropagationMonitor monitor = new PropagationMonitor(game.getLayout(), game.getCages(), game.getBoard());
+            int[] before = candidates(monitor);
+            for (int cell = 0; cell < RegionLayout.CELLS; cell++) {
+                if (game.getBoard()[cell / RegionLayout.SIZE][cell % RegionLayout.SIZE] != 0) {
+                    continue;
+                }
+                for (int number = 1; number <= RegionLayout.SIZE; number++) {
+                    monitor.assign(cell, number);
+                    monitor.findDeadEnd();
+                    monitor.unassign(cell);
+                    assertArrayEquals(before, candidates(monitor), variant + " cell " + cell + " number " + number);
+                }
+            }
+        }
+    }
+
+    /**
+     * Clears a number placed by the player about a third of the time, and
+     * otherwise places a number its peers allow in a random empty cell.
+     */
+    private static void playRandomMove(Game game, int[][] givens, Random random) {
+        int[][] board = game.getBoard();
+        int start = random.nextInt(RegionLayout.CELLS);
+        boolean clear = random.nextInt(3) == 0;
+        for (int i = 0; i < RegionLayout.CELLS; i++) {
+            int cell = (start + i) % RegionLayout.CELLS;
+            int row = cell / RegionLayout.SIZE;
+            int col = cell % RegionLayout.SIZE;
+            if (givens[row][col] != 0) {
+                continue;
+            }
+            if (clear && board[row][col] != 0) {
+                game.clearCell(row, col);
+                return;
+            }
+            if (!clear && board[row][col] == 0) {
+                int number = 1 + random.nextInt(RegionLayout.SIZE);
+                if (game.isValidMove(number, row, col)) {
+                    game.makeMove(String.valueOf(number), row, col);
+                    return;
+                }
+            }
+        }
+    }
+
+    private static int[] candidates(PropagationMonitor monitor) {
+        int[] candidates = new int[RegionLayout.CELLS];
+        for (int cell = 0; cell < RegionLayout.CELLS; cell++) {
+            candidates[cell] = monitor.candidates(cell);
+        }
+        return candidates;
+    }
+
+    private static Game newGame(Variant variant, long seed) {
+        Game game = Game.withEmptyBoard(variant);
+        game.initializeBoard(seed);
+        return game;
+    }
+}
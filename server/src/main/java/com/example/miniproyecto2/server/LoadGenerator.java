@@ -0,0 +1,207 @@
+package com.example.miniproyecto2.server;
+
+import com.example.miniproyecto2.model.BoardCodec;
+import com.example.miniproyecto2.model.Puzzle;
+import com.example.miniproyecto2.model.PuzzleGenerator;
+import com.example.miniproyecto2.model.Variant;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Local load generator for {@link PuzzleServer}. A number of client threads
+ * send requests back to back for a fixed time, spread over every endpoint,
+ * variant and a small pool of seeds, and the throughput and latency
+ * percentiles are reported at the end.
+ * <p>
+ * Half of the {@code /generate} requests name no seed, and the other
+ * endpoints are sent a board state of a pooled puzzle with a random part of
+ * its answer filled in. Almost every such request misses the response cache,
+ * so the figures include the work of the generator and the solver and not
+ * only cache hits.
+ * <p>
+ * Run after {@code mvn package} with:
+ * <pre>
+ * java -p core/target/classes:server/target/classes \
+ *     -m com.example.miniproyecto2.server/com.example.miniproyecto2.server.LoadGenerator [url] [clients] [seconds]
+ * </pre>
+ * Without a URL, a server is started in the same JVM on a free port.
+ */
+public class LoadGenerator {
+
+    private static final int DEFAULT_CLIENTS = 32;
+    private static final int DEFAULT_SECONDS = 10;
+    private static final int SEEDS = 64;
+    private static final String[] BOARD_ENDPOINTS = {"/validate", "/hint", "/solve"};
+
+    public static void main(String[] args) throws Exception {
+        PuzzleServer server = null;
+        String url;
+        if (args.length > 0 && !args[0].isEmpty()) {
+            url = args[0];
+        } else {
+            server = new PuzzleServer(0);
+            server.start();
+            url = "http://localhost:" + server.getPort();
+        }
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_CLIENTS;
+        long durationNanos = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SECONDS).toNanos();
+
+        List<Puzzle> puzzles = puzzles();
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        Client[] workers = new Client[clients];
+        long start = System.nanoTime();
+        for (int i = 0; i < clients; i++) {
+            workers[i] = new Client(client, url, puzzles, new Random(i), start + durationNanos);
+            workers[i].start();
+        }
+
+        long count = 0;
+        long errors = 0;
+        for (Client worker : workers) {
+            worker.join();
+            count += worker.count;
+            errors += worker.errors;
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long[] latencies = new long[(int) count];
+        int offset = 0;
+        for (Client worker : workers) {
+            System.arraycopy(worker.latencies, 0, latencies, offset, worker.count);
+            offset += worker.count;
+        }
+        Arrays.sort(latencies);
+
+        System.out.printf("%d requests, %d errors, %d clients, %.1f s%n", count, errors, clients, seconds);
+        System.out.printf("throughput: %.0f req/s%n", count / seconds);
+        System.out.printf("latency: p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 1.0));
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    /**
+     * Generates the pool of puzzles requests are made on: every variant for
+     * every seed of the pool.
+     *
+     * @return the puzzles.
+     */
+    private static List<Puzzle> puzzles() {
+        List<Puzzle> puzzles = new ArrayList<>();
+        for (Variant variant : Variant.values()) {
+            for (long seed = 0; seed < SEEDS; seed++) {
+                puzzles.add(PuzzleGenerator.get(variant, seed));
+            }
+        }
+        return puzzles;
+    }
+
+    /**
+     * Picks the next request: a quarter of them to {@code /generate}, half of
+     * those with a random seed, and the rest to the other endpoints on a
+     * random board state of a pooled puzzle.
+     *
+     * @param url the base URL of the server.
+     * @param puzzles the pool of puzzles.
+     * @param random the source of randomness of the client.
+     * @return the request URI.
+     */
+    private static URI request(String url, List<Puzzle> puzzles, Random random) {
+        Puzzle puzzle = puzzles.get(random.nextInt(puzzles.size()));
+        String variant = "?variant=" + puzzle.getVariant();
+        String query = variant + "&seed=" + puzzle.getSeed();
+        int endpoint = random.nextInt(BOARD_ENDPOINTS.length + 1);
+        if (endpoint == BOARD_ENDPOINTS.length) {
+            return URI.create(url + "/generate" + (random.nextBoolean() ? variant : query));
+        }
+        String board = "&board=" + BoardCodec.encode(boardState(puzzle, random));
+        return URI.create(url + BOARD_ENDPOINTS[endpoint] + query + board);
+    }
+
+    /**
+     * Returns the initial board of a puzzle with a random fraction of its
+     * empty cells filled in from the answer.
+     *
+     * @param puzzle the puzzle.
+     * @param random the source of randomness.
+     * @return the board state.
+     */
+    private static int[][] boardState(Puzzle puzzle, Random random) {
+        int[][] board = puzzle.getBoard();
+        int[][] answer = puzzle.getAnswer();
+        double filled = random.nextDouble();
+        for (int row = 0; row < board.length; row++) {
+            for (int col = 0; col < board[row].length; col++) {
+                if (board[row][col] == 0 && random.nextDouble() < filled) {
+                    board[row][col] = answer[row][col];
+                }
+            }
+        }
+        return board;
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    /**
+     * A client thread sending one request at a time until its deadline and
+     * recording the latency of every successful one.
+     */
+    private static class Client extends Thread {
+
+        private final HttpClient client;
+        private final String url;
+        private final List<Puzzle> puzzles;
+        private final Random random;
+        private final long deadline;
+        private long[] latencies = new long[1 << 12];
+        private int count;
+        private int errors;
+
+        Client(HttpClient client, String url, List<Puzzle> puzzles, Random random, long deadline) {
+            this.client = client;
+            this.url = url;
+            this.puzzles = puzzles;
+            this.random = random;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void run() {
+            while (System.nanoTime() < deadline) {
+                HttpRequest request = HttpRequest.newBuilder(request(url, puzzles, random)).GET().build();
+                long start = System.nanoTime();
+                try {
+                    HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                    if (response.statusCode() != 200) {
+                        errors++;
+                        continue;
+                    }
+                } catch (IOException e) {
+                    errors++;
+                    continue;
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = System.nanoTime() - start;
+            }
+        }
+    }
+}
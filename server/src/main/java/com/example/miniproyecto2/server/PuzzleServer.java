@@ -0,0 +1,319 @@
+package com.example.miniproyecto2.server;
+
+import com.example.miniproyecto2.model.BoardCodec;
+import com.example.miniproyecto2.model.Cages;
+import com.example.miniproyecto2.model.Hint;
+import com.example.miniproyecto2.model.LruCache;
+import com.example.miniproyecto2.model.Puzzle;
+import com.example.miniproyecto2.model.PuzzleGenerator;
+import com.example.miniproyecto2.model.RegionLayout;
+import com.example.miniproyecto2.model.SolveResult;
+import com.example.miniproyecto2.model.Variant;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Embedded HTTP service generating, validating, hinting on and solving
+ * puzzles. Every endpoint answers {@code GET} requests with
+ * {@code key=value} lines of plain text. Boards are sent and returned in
+ * the 36-character encoding of {@link BoardCodec}.
+ * <ul>
+ *     <li>{@code /generate?variant=&seed=}: the puzzle of a variant and seed,
+ *     or of a random seed if none is given.</li>
+ *     <li>{@code /validate?variant=&seed=&board=}: whether a board state of a
+ *     puzzle is solved, and whether it can still be solved.</li>
+ *     <li>{@code /hint?variant=&seed=&board=}: the next hint for a board state.</li>
+ *     <li>{@code /solve?variant=&seed=&board=}: a solution of a board state.</li>
+ * </ul>
+ * The variant defaults to {@link Variant#CLASSIC}. A puzzle code may be given
+ * as {@code code=} instead of the seed. Only {@code /generate} picks a seed
+ * when none is given; the other endpoints need the seed or code of the
+ * puzzle the board belongs to. Every response is determined by the
+ * variant, the seed and the board, so responses to requests naming their
+ * seed are cached by those.
+ */
+public class PuzzleServer {
+
+    private static final int DEFAULT_PORT = 8080;
+    private static final int CACHE_CAPACITY = 1 << 14;
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final LruCache<String, byte[]> responses = new LruCache<>(CACHE_CAPACITY);
+
+    /**
+     * Constructs a new PuzzleServer bound to the given port. The server is
+     * not started.
+     *
+     * @param port the port to listen on, or 0 for any free port.
+     * @throws IOException if the port cannot be bound.
+     */
+    public PuzzleServer(int port) throws IOException {
+        // The JDK server writes headers and body separately; without TCP_NODELAY
+        // every response waits for the client's delayed ACK, about 40 ms.
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        this.executor = newRequestExecutor();
+        server.setExecutor(executor);
+        server.createContext("/generate", exchange -> handle(exchange, this::generate));
+        server.createContext("/validate", exchange -> handle(exchange, this::validate));
+        server.createContext("/hint", exchange -> handle(exchange, this::hint));
+        server.createContext("/solve", exchange -> handle(exchange, this::solve));
+    }
+
+    /**
+     * Starts the server on the port given on the command line, or 8080.
+     *
+     * @param args the optional port.
+     * @throws IOException if the port cannot be bound.
+     */
+    public static void main(String[] args) throws IOException {
+        PuzzleServer server = new PuzzleServer(args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT);
+        server.start();
+        System.out.println("Listening on port " + server.getPort());
+    }
+
+    /**
+     * Starts handling requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops the server and the threads handling requests.
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return the port.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns an executor running each request on its own virtual thread when
+     * the JDK has them, or else a pool of daemon threads, one per processor.
+     * The JDK is probed by reflection so the service builds and runs on Java
+     * 17 as well.
+     *
+     * @return the executor for requests.
+     */
+    static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger count = new AtomicInteger();
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), task -> {
+                Thread thread = new Thread(task, "puzzle-http-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Answers a request from the cache, or with the given endpoint.
+     *
+     * @param exchange the request and its response.
+     * @param endpoint the endpoint computing the response body.
+     * @throws IOException if the response cannot be sent.
+     */
+    private void handle(HttpExchange exchange, Function<Request, String> endpoint) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                send(exchange, 405, "error=Only GET is supported\n".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            byte[] body;
+            try {
+                Request request = Request.parse(exchange.getRequestURI().getRawQuery());
+                if (!request.seeded()) {
+                    body = endpoint.apply(request).getBytes(StandardCharsets.UTF_8);
+                } else {
+                    String key = exchange.getHttpContext().getPath() + '|' + request.key();
+                    body = responses.getIfPresent(key);
+                    if (body == null) {
+                        body = endpoint.apply(request).getBytes(StandardCharsets.UTF_8);
+                        responses.put(key, body);
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                send(exchange, 400, ("error=" + e.getMessage() + "\n").getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            send(exchange, 200, body);
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private String generate(Request request) {
+        Puzzle puzzle = request.puzzleOrRandom();
+        StringBuilder body = new StringBuilder()
+                .append("variant=").append(puzzle.getVariant()).append('\n')
+                .append("code=").append(puzzle.getCode()).append('\n')
+                .append("board=").append(BoardCodec.encode(puzzle.getBoard())).append('\n');
+        Cages cages = puzzle.getCages();
+        if (cages.getCageCount() > 0) {
+            body.append("cages=").append(encodeCages(cages)).append('\n').append("sums=");
+            for (int cage = 0; cage < cages.getCageCount(); cage++) {
+                body.append(cage == 0 ? "" : ",").append(cages.getSum(cage));
+            }
+            body.append('\n');
+        }
+        return body.toString();
+    }
+
+    private String validate(Request request) {
+        Puzzle puzzle = request.puzzle();
+        int[][] board = request.board();
+        boolean keepsGivens = puzzle.keepsGivens(board);
+        boolean solvable = keepsGivens && puzzle.analyze(board).getSolutionCount() > 0;
+        return "solved=" + (solvable && isFull(board)) + "\n" + "solvable=" + solvable + "\n";
+    }
+
+    private String hint(Request request) {
+        Hint hint = request.puzzle().hint(request.board());
+        return hint == null ? "hint=none\n" : "hint=" + hint.row() + "," + hint.col() + "," + hint.number() + "\n";
+    }
+
+    private String solve(Request request) {
+        SolveResult result = request.puzzle().analyze(request.board());
+        int[][] solution = result.getSolution();
+        return "solution=" + (solution == null ? "none" : BoardCodec.encode(solution)) + "\n"
+                + "solutions=" + result.getSolutionCount() + "\n";
+    }
+
+    /**
+     * Encodes the cage of every cell as a base-36 digit, or {@code '.'} for
+     * cells in no cage.
+     *
+     * @param cages the cages to encode.
+     * @return the 36-character encoding.
+     */
+    private static String encodeCages(Cages cages) {
+        char[] chars = new char[RegionLayout.CELLS];
+        for (int cell = 0; cell < RegionLayout.CELLS; cell++) {
+            int cage = cages.getCage(cell);
+            chars[cell] = cage < 0 ? '.' : Character.forDigit(cage, Character.MAX_RADIX);
+        }
+        return new String(chars);
+    }
+
+    private static boolean isFull(int[][] board) {
+        for (int[] row : board) {
+            for (int number : row) {
+                if (number == 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The parameters of a request.
+     *
+     * @param variant the rule variant of the puzzle.
+     * @param seed the seed of the puzzle.
+     * @param seeded whether the seed was given rather than picked at random.
+     * @param encodedBoard the encoded board state, or null if none was given.
+     */
+    private record Request(Variant variant, long seed, boolean seeded, String encodedBoard) {
+
+        /**
+         * Parses the query of a request. A random seed is picked when none is
+         * given.
+         *
+         * @param query the raw query, or null.
+         * @return the request.
+         * @throws IllegalArgumentException if a parameter is not valid.
+         */
+        static Request parse(String query) {
+            Map<String, String> params = new HashMap<>();
+            if (query != null) {
+                for (String pair : query.split("&")) {
+                    int split = pair.indexOf('=');
+                    if (split > 0) {
+                        params.put(pair.substring(0, split),
+                                URLDecoder.decode(pair.substring(split + 1), StandardCharsets.UTF_8));
+                    }
+                }
+            }
+            Variant variant = Variant.valueOf(params.getOrDefault("variant", "CLASSIC").toUpperCase(Locale.ROOT));
+            if (params.containsKey("code")) {
+                return new Request(variant, PuzzleGenerator.fromCode(params.get("code")), true, params.get("board"));
+            }
+            if (params.containsKey("seed")) {
+                return new Request(variant, Long.parseLong(params.get("seed")), true, params.get("board"));
+            }
+            return new Request(variant, ThreadLocalRandom.current().nextLong(), false, params.get("board"));
+        }
+
+        /**
+         * Returns the puzzle of the seed or code of the request.
+         *
+         * @return the puzzle.
+         * @throws IllegalArgumentException if the request names no seed or code.
+         */
+        Puzzle puzzle() {
+            if (!seeded) {
+                throw new IllegalArgumentException("Missing seed or code");
+            }
+            return PuzzleGenerator.get(variant, seed);
+        }
+
+        /**
+         * Returns the puzzle of the seed or code of the request, or of the
+         * random seed if it names none. Puzzles of random seeds are generated
+         * without the puzzle cache, where they would only evict puzzles that
+         * are asked for again.
+         *
+         * @return the puzzle.
+         */
+        Puzzle puzzleOrRandom() {
+            return seeded ? puzzle() : PuzzleGenerator.generate(variant, seed);
+        }
+
+        int[][] board() {
+            if (encodedBoard == null) {
+                throw new IllegalArgumentException("Missing board");
+            }
+            return BoardCodec.decode(encodedBoard);
+        }
+
+        String key() {
+            return variant + "|" + seed + "|" + encodedBoard;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+module com.example.miniproyecto2.server {
+    requires com.example.miniproyecto2.core;
+    requires jdk.httpserver;
+    requires java.net.http;
+
+    exports com.example.miniproyecto2.server;
+}
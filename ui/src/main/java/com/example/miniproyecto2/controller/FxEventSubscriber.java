@@ -0,0 +1,89 @@
+package com.example.miniproyecto2.controller;
+
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Subscriber that hands events to the JavaFX application thread in batches.
+ * Events arriving between two runs of the application thread are coalesced
+ * into a single {@link Platform#runLater(Runnable)} call. At most
+ * {@code bufferSize} events are requested ahead, and more are requested only
+ * once a batch has been handled, so a busy interface applies backpressure
+ * instead of piling up work.
+ *
+ * @param <T> the type of the events.
+ */
+public class FxEventSubscriber<T> implements Flow.Subscriber<T> {
+
+    private final int bufferSize;
+    private final Consumer<List<T>> handler;
+    private final Queue<T> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile Flow.Subscription subscription;
+
+    /**
+     * Constructs a new FxEventSubscriber.
+     *
+     * @param bufferSize the maximum number of events requested ahead.
+     * @param handler the handler of each batch, run on the application thread.
+     */
+    public FxEventSubscriber(int bufferSize, Consumer<List<T>> handler) {
+        this.bufferSize = bufferSize;
+        this.handler = handler;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(bufferSize);
+    }
+
+    @Override
+    public void onNext(T event) {
+        pending.add(event);
+        if (scheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::drain);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+    }
+
+    @Override
+    public void onComplete() {
+    }
+
+    /**
+     * Cancels the subscription. Events already queued are still handled.
+     */
+    public void cancel() {
+        Flow.Subscription current = subscription;
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    /**
+     * Handles every pending event as one batch and requests as many new ones.
+     */
+    private void drain() {
+        scheduled.set(false);
+        List<T> batch = new ArrayList<>();
+        T event;
+        while ((event = pending.poll()) != null) {
+            batch.add(event);
+        }
+        if (!batch.isEmpty()) {
+            handler.accept(batch);
+            subscription.request(batch.size());
+        }
+    }
+}
@@ -0,0 +1,661 @@
+package com.example.miniproyecto2.controller;
+
+import com.example.miniproyecto2.model.Cages;
+import com.example.miniproyecto2.model.Game;
+import com.example.miniproyecto2.model.GameEvent;
+import com.example.miniproyecto2.model.GameService;
+import com.example.miniproyecto2.model.Hint;
+import com.example.miniproyecto2.model.RegionLayout;
+import com.example.miniproyecto2.model.Variant;
+import com.example.miniproyecto2.view.GameStage;
+import com.example.miniproyecto2.view.ResourceCache;
+import com.example.miniproyecto2.view.WelcomeStage;
+import javafx.application.Platform;
+import javafx.event.ActionEvent;
+import javafx.geometry.HPos;
+import javafx.geometry.Insets;
+import javafx.geometry.VPos;
+import javafx.fxml.FXML;
+import javafx.scene.control.Alert;
+import javafx.scene.control.TextField;
+import javafx.scene.control.Label;
+import javafx.scene.effect.InnerShadow;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyEvent;
+import javafx.event.EventHandler;
+import javafx.scene.layout.GridPane;
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Controller for the Game stage of the Sudoku application.
+ */
+public class GameController {
+    private static final long HINT_DEADLINE_MILLIS = 500;
+    private static final String BOARD_KEY = "board";
+    private static final int EVENT_BUFFER_SIZE = 64;
+    private static final String FONT_FAMILY = "Berlin Sans FB";
+    private static final Font CELL_FONT = ResourceCache.font(FONT_FAMILY, 24);
+    private static final Font SUM_FONT = ResourceCache.font(FONT_FAMILY, 11);
+    private static final InnerShadow DEAD_END_EFFECT = new InnerShadow(14, Color.ORANGE);
+    private static final InnerShadow LAST_MOVE_EFFECT = new InnerShadow(10, Color.DEEPSKYBLUE);
+
+    private Game game;
+    private RegionLayout layout;
+    private Cages cages = Cages.NONE;
+    private int generation;
+    private TextField deadEndCell;
+    private TextField lastMoveCell;
+    private GameService gameService;
+    private FxEventSubscriber<GameEvent> eventSubscriber;
+    private final Map<Object, CompletableFuture<?>> pendingResults = new HashMap<>();
+
+    @FXML
+    private ImageView backgroundImageView;
+
+    @FXML
+    private GridPane gridPane;
+
+    @FXML
+    private Label helpLabel;
+
+    /**
+     * Loads the background image at its display size.
+     */
+    @FXML
+    public void initialize() {
+        backgroundImageView.setImage(ResourceCache.image("img/bg-game.jpg",
+                backgroundImageView.getFitWidth(), backgroundImageView.getFitHeight()));
+    }
+
+    /**
+     * Initializes the game by setting the current Game instance, initializing the board,
+     * updating the help label, and displaying the rules alert.
+     *
+     * @param game the Game instance to be set.
+     */
+    public void setGame(Game game) {
+        this.game = game;
+        this.layout = game.getLayout();
+        this.gameService = new GameService(game);
+        this.eventSubscriber = new FxEventSubscriber<>(EVENT_BUFFER_SIZE, this::showLastMove);
+        game.events().subscribe(eventSubscriber);
+        applyLatest(BOARD_KEY, gameService.submit(model -> {
+            model.initializeBoard();
+            model.speculateHint();
+            return new BoardView(model.copyBoard(), model.getCages(), model.getGeneration());
+        }), view -> {
+            initializeBoard(view);
+            updateHelpLabel(0);
+        });
+        showRulesAlert();
+    }
+
+
+    /**
+     * Applies the result of a model operation on the JavaFX application thread.
+     * Results are coalesced by key: if a newer operation was submitted with the
+     * same key before this one completed, this result is discarded.
+     *
+     * @param key the key identifying the operation.
+     * @param future the pending result of the operation.
+     * @param action the action applying the result to the interface.
+     * @param <T> the type of the result.
+     */
+    private <T> void applyLatest(Object key, CompletableFuture<T> future, Consumer<T> action) {
+        pendingResults.put(key, future);
+        future.whenComplete((value, error) -> Platform.runLater(() -> {
+            if (pendingResults.get(key) != future) {
+                return;
+            }
+            pendingResults.remove(key);
+            if (error == null) {
+                action.accept(value);
+            }
+        }));
+    }
+
+
+    /**
+     * Applies the result of a model operation on the JavaFX application
+     * thread, without coalescing. Used for operations that change the model,
+     * whose every result the interface must show.
+     *
+     * @param future the pending result of the operation.
+     * @param action the action applying the result to the interface.
+     * @param <T> the type of the result.
+     */
+    private <T> void applyEach(CompletableFuture<T> future, Consumer<T> action) {
+        future.whenComplete((value, error) -> Platform.runLater(() -> {
+            if (error == null) {
+                action.accept(value);
+            }
+        }));
+    }
+
+
+    /**
+     * Initializes the board in the graphical interface by setting up text fields
+     * for each cell based on the given board state, and labels with the sum of
+     * each cage.
+     *
+     * @param view a snapshot of the board and cages to display.
+     */
+    private void initializeBoard(BoardView view) {
+        int[][] board = view.board();
+        deadEndCell = null;
+        lastMoveCell = null;
+        cages = view.cages();
+        generation = view.generation();
+        for (int row = 0; row < board.length; row++) {
+            for (int col = 0; col < board[row].length; col++) {
+                TextField cell = new TextField();
+                if (board[row][col] != 0) {
+                    cell.setText(String.valueOf(board[row][col]));
+                    cell.setEditable(false);
+                } else {
+                    cell.clear();
+                    handleTextField(cell, row, col);
+                }
+                styleTextField(cell, row, col);
+                gridPane.add(cell, col, row);
+            }
+        }
+        for (int cage = 0; cage < cages.getCageCount(); cage++) {
+            int anchor = cages.getCells(cage)[0];
+            Label sumLabel = new Label(String.valueOf(cages.getSum(cage)));
+            sumLabel.setFont(SUM_FONT);
+            sumLabel.setStyle("-fx-text-fill: #f2c14e;");
+            sumLabel.setMouseTransparent(true);
+            GridPane.setHalignment(sumLabel, HPos.LEFT);
+            GridPane.setValignment(sumLabel, VPos.TOP);
+            GridPane.setMargin(sumLabel, new Insets(2, 0, 0, 5));
+            gridPane.add(sumLabel, anchor % RegionLayout.SIZE, anchor / RegionLayout.SIZE);
+        }
+    }
+
+
+    /**
+     * Handles the events of the specified text field by setting up a key
+     * released event handler. Validates the input and updates the board
+     * accordingly.
+     *
+     * @param cell the TextField representing the cell.
+     * @param row the row index of the cell.
+     * @param col the column index of the cell.
+     */
+    private void handleTextField(TextField cell, int row, int col) {
+        cell.setOnKeyReleased(new EventHandler<KeyEvent>() {
+            @Override
+            public void handle(KeyEvent keyEvent) {
+                String inputText = cell.getText();
+                boolean isNumber = inputText.matches("[1-6]");
+                if (!isNumber) {
+                    cell.clear();
+                    resetHighlighting();
+                }
+                int boardGeneration = generation;
+                applyLatest(row * 6 + col, gameService.submitLatest(row * 6 + col, model -> {
+                    if (model.getGeneration() != boardGeneration) {
+                        return null;
+                    }
+                    boolean accepted = false;
+                    if (!isNumber) {
+                        model.clearCell(row, col);
+                        model.speculateHint();
+                    } else if (model.isValidMove(Integer.parseInt(inputText), row, col)) {
+                        model.makeMove(inputText, row, col);
+                        model.speculateHint();
+                        accepted = true;
+                    }
+                    boolean boardFull = model.isBoardFull();
+                    return new MoveOutcome(accepted, boardFull, boardFull && model.isGameOver(), model.findDeadEnd());
+                }), outcome -> {
+                    if (outcome == null) {
+                        return;
+                    }
+                    showDeadEnd(outcome.deadEnd());
+                    if (isNumber) {
+                        setCellStyle(cell, row, col, defaultCellStyle(row, col));
+                        if (!outcome.accepted()) {
+                            highlightConflictingNumbers(cell, row, col);
+                        }
+                    }
+                    showResultIfBoardFull(outcome.boardFull(), outcome.gameOver());
+                });
+            }
+        });
+    }
+
+
+    /**
+     * Flags the cell where the board has reached a dead end with an orange
+     * glow, and clears the previous flag.
+     *
+     * @param deadEnd the index of the cell to flag, or -1 if there is no dead end.
+     */
+    private void showDeadEnd(int deadEnd) {
+        if (deadEndCell != null) {
+            deadEndCell.setEffect(null);
+            deadEndCell = null;
+        }
+        if (deadEnd >= 0) {
+            Node node = getNodeByRowColumnIndex(deadEnd / RegionLayout.SIZE, deadEnd % RegionLayout.SIZE, gridPane);
+            if (node instanceof TextField cell) {
+                cell.setEffect(DEAD_END_EFFECT);
+                deadEndCell = cell;
+            }
+        }
+    }
+
+
+    /**
+     * Marks the cell changed last with a blue glow, from a batch of game
+     * events. Only a cue: events may be dropped when the interface falls
+     * behind, and everything the player must see comes from the results of
+     * the model operations instead. The dead-end glow takes precedence.
+     *
+     * @param events the events received since the last batch.
+     */
+    private void showLastMove(List<GameEvent> events) {
+        GameEvent last = null;
+        for (GameEvent event : events) {
+            if (event.generation() == generation
+                    && (event.type() == GameEvent.Type.MOVE || event.type() == GameEvent.Type.HINT)) {
+                last = event;
+            }
+        }
+        if (last == null) {
+            return;
+        }
+        if (lastMoveCell != null && lastMoveCell.getEffect() == LAST_MOVE_EFFECT) {
+            lastMoveCell.setEffect(null);
+        }
+        lastMoveCell = null;
+        Node node = getNodeByRowColumnIndex(last.row(), last.col(), gridPane);
+        if (node instanceof TextField cell && cell != deadEndCell) {
+            cell.setEffect(LAST_MOVE_EFFECT);
+            lastMoveCell = cell;
+        }
+    }
+
+
+    /**
+     * Shows the victory or error message once the board is full.
+     *
+     * @param boardFull whether the board is full.
+     * @param gameOver whether the full board is a valid solution.
+     */
+    private void showResultIfBoardFull(boolean boardFull, boolean gameOver) {
+        if (boardFull) {
+            if (gameOver) {
+                showVictoryMessage();
+            } else {
+                showErrorMessage();
+            }
+        }
+    }
+
+
+    /**
+     * Highlights conflicting numbers on the board by changing the background
+     * color of conflicting cells to red.
+     *
+     * @param currentCell the TextField representing the current cell.
+     * @param row the row index of the current cell.
+     * @param col the column index of the current cell.
+     */
+    private void highlightConflictingNumbers(TextField currentCell, int row, int col) {
+        if (currentCell.getText().isEmpty()) {
+            return;
+        }
+        String currentValue = currentCell.getText();
+
+        resetHighlighting();
+
+        int cellIndex = row * RegionLayout.SIZE + col;
+        for (int i = layout.peerStart(cellIndex), end = layout.peerEnd(cellIndex); i < end; i++) {
+            int peerRow = layout.peerRow(i);
+            int peerCol = layout.peerCol(i);
+            Node cellNode = getNodeByRowColumnIndex(peerRow, peerCol, gridPane);
+            if (cellNode instanceof TextField cell && cell.getText().equals(currentValue)) {
+                setCellStyle(cell, peerRow, peerCol, "-fx-background-color: red;");
+                setCellStyle(currentCell, row, col, "-fx-background-color: red;");
+            }
+        }
+    }
+
+
+    /**
+     * Gets the node by its row and column index within the specified grid pane.
+     *
+     * @param row the row index of the node.
+     * @param col the column index of the node.
+     * @param gridPane the GridPane containing the nodes.
+     * @return the Node if found, null otherwise.
+     */
+    private Node getNodeByRowColumnIndex(int row, int col, GridPane gridPane) {
+        for (Node node : gridPane.getChildren()) {
+            Integer nodeRowIndex = GridPane.getRowIndex(node);
+            Integer nodeColIndex = GridPane.getColumnIndex(node);
+            if (nodeRowIndex == null) {
+                nodeRowIndex = 0;
+            }
+            if (nodeColIndex == null) {
+                nodeColIndex = 0;
+            }
+            if (nodeRowIndex == row && nodeColIndex == col) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+
+    /**
+     * Applies styles to the specified text field, including setting the font,
+     * background color, text color, size, and alignment.
+     *
+     * @param cell the TextField to be styled.
+     * @param row the row index of the cell.
+     * @param col the column index of the cell.
+     */
+    private void styleTextField(TextField cell, int row, int col) {
+        cell.setFont(CELL_FONT);
+        setCellStyle(cell, row, col, defaultCellStyle(row, col));
+        cell.setPrefSize(50, 50);
+        cell.setAlignment(javafx.geometry.Pos.CENTER);
+    }
+
+
+    /**
+     * Returns the resting style of a cell: transparent with white text, or
+     * lightly tinted when the cell belongs to an extra region such as a
+     * diagonal.
+     *
+     * @param row the row index of the cell.
+     * @param col the column index of the cell.
+     * @return the style of the cell.
+     */
+    private String defaultCellStyle(int row, int col) {
+        if (layout.isInExtraRegion(row, col)) {
+            return "-fx-background-color: rgba(255, 255, 255, 0.2); -fx-text-fill: white;";
+        }
+        return "-fx-background-color: transparent; -fx-text-fill: white;";
+    }
+
+
+    /**
+     * Sets the style of a cell, adding the borders that separate it from the
+     * cells of other boxes and, inside those, the dashed borders of its cage.
+     *
+     * @param cell the TextField representing the cell.
+     * @param row the row index of the cell.
+     * @param col the column index of the cell.
+     * @param style the style to apply.
+     */
+    private void setCellStyle(TextField cell, int row, int col, String style) {
+        int box = layout.getBox(row, col);
+        int top = row > 0 && layout.getBox(row - 1, col) != box ? 2 : 0;
+        int right = col < RegionLayout.SIZE - 1 && layout.getBox(row, col + 1) != box ? 2 : 0;
+        int bottom = row < RegionLayout.SIZE - 1 && layout.getBox(row + 1, col) != box ? 2 : 0;
+        int left = col > 0 && layout.getBox(row, col - 1) != box ? 2 : 0;
+        String borders = " -fx-border-color: white; -fx-border-width: "
+                + top + " " + right + " " + bottom + " " + left + ";";
+        int cage = cages.getCage(row * RegionLayout.SIZE + col);
+        if (cage >= 0) {
+            int cageTop = isSameCage(cage, row - 1, col) ? 0 : 1;
+            int cageRight = isSameCage(cage, row, col + 1) ? 0 : 1;
+            int cageBottom = isSameCage(cage, row + 1, col) ? 0 : 1;
+            int cageLeft = isSameCage(cage, row, col - 1) ? 0 : 1;
+            borders = " -fx-border-color: white, #f2c14e; -fx-border-style: solid, dashed;"
+                    + " -fx-border-insets: 0, 3; -fx-border-width: "
+                    + top + " " + right + " " + bottom + " " + left + ", "
+                    + cageTop + " " + cageRight + " " + cageBottom + " " + cageLeft + ";";
+        }
+        cell.setStyle(style + borders);
+    }
+
+
+    /**
+     * Checks if a cell is on the board and in the given cage.
+     *
+     * @param cage the cage index.
+     * @param row the row index of the cell.
+     * @param col the column index of the cell.
+     * @return true if the cell is in the cage, false otherwise.
+     */
+    private boolean isSameCage(int cage, int row, int col) {
+        return row >= 0 && row < RegionLayout.SIZE && col >= 0 && col < RegionLayout.SIZE
+                && cages.getCage(row * RegionLayout.SIZE + col) == cage;
+    }
+
+
+    /**
+     * Resets the highlighting of all text fields in the grid pane by restoring
+     * their resting style.
+     */
+    private void resetHighlighting() {
+        for (Node node : gridPane.getChildren()) {
+            if (node instanceof TextField cell) {
+                int row = Objects.requireNonNullElse(GridPane.getRowIndex(node), 0);
+                int col = Objects.requireNonNullElse(GridPane.getColumnIndex(node), 0);
+                setCellStyle(cell, row, col, defaultCellStyle(row, col));
+            }
+        }
+    }
+
+
+    /**
+     * Handles the help button action, providing a hint by placing a correct
+     * number in an empty cell. If the board is full after the hint, checks if
+     * the game is over or if there is an error.
+     * <p>
+     * Only the lookup of the hint has a deadline; when it passes, the search
+     * is interrupted and no help is used. Placing the hint is a separate
+     * operation that always completes, and every click's result is shown, so
+     * the interface always learns of a placed hint. Both operations are
+     * dropped if the board was restarted since the click.
+     */
+    @FXML
+    private void handleHelpButton() {
+        int boardGeneration = generation;
+        CompletableFuture<Hint> lookup = gameService.submit(model ->
+                model.getGeneration() == boardGeneration && model.getHelpUsed() < 6 && !model.isBoardFull()
+                        ? model.nextHint()
+                        : null,
+                HINT_DEADLINE_MILLIS, TimeUnit.MILLISECONDS);
+        applyEach(lookup.thenCompose(found -> gameService.submit(model -> {
+            if (model.getGeneration() != boardGeneration) {
+                return null;
+            }
+            Hint hint = null;
+            if (found != null && model.getHelpUsed() < 6
+                    && model.getBoard()[found.row()][found.col()] == 0) {
+                hint = found;
+                model.applyHint(hint);
+                model.speculateHint();
+            }
+            boolean boardFull = model.isBoardFull();
+            return new HintOutcome(hint, model.getHelpUsed(), boardFull, boardFull && model.isGameOver(),
+                    model.findDeadEnd());
+        })), outcome -> {
+            if (outcome == null) {
+                return;
+            }
+            showDeadEnd(outcome.deadEnd());
+            Hint hint = outcome.hint();
+            if (hint != null) {
+                Node node = getNodeByRowColumnIndex(hint.row(), hint.col(), gridPane);
+                if (node instanceof TextField cell) {
+                    cell.setText(String.valueOf(hint.number()));
+                    cell.setEditable(false);
+                    setCellStyle(cell, hint.row(), hint.col(), "-fx-text-fill: blue; -fx-background-color: null;");
+                }
+                updateHelpLabel(outcome.helpUsed());
+            }
+            showResultIfBoardFull(outcome.boardFull(), outcome.gameOver());
+        });
+    }
+
+
+    /**
+     * Updates the help label.
+     *
+     * @param helpUsed the number of helps used.
+     */
+    private void updateHelpLabel(int helpUsed) {
+        helpLabel.setText("Ayudas restantes: " + (6 - helpUsed));
+    }
+
+    /**
+     * Displays a victory message indicating that the Sudoku puzzle has been
+     * successfully completed.
+     */
+    private void showVictoryMessage() {
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle("¡Victoria!");
+        alert.setHeaderText(null);
+        alert.setContentText("¡Felicidades, has completado el Sudoku!");
+        alert.showAndWait();
+    }
+
+    /**
+     * Displays an error message indicating that the Sudoku board is full
+     * but contains an error.
+     */
+    private void showErrorMessage() {
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle("¡Error!");
+        alert.setHeaderText(null);
+        alert.setContentText("¡Tu sudoku esta lleno pero hay un error!");
+        alert.showAndWait();
+    }
+
+
+    /**
+     * Displays an alert with the rules of the variant being played and the
+     * instructions for playing Sudoku 6x6.
+     */
+    @FXML
+    private void showRulesAlert() {
+        Variant variant = game.getVariant();
+        StringBuilder rules = new StringBuilder()
+                .append("El Sudoku 6x6 es un juego de lógica y números.\n\n")
+                .append("Reglas (").append(variant.getDisplayName()).append("):\n");
+        if (variant == Variant.JIGSAW) {
+            rules.append("- El tablero tiene 6 filas y 6 columnas, divididas en 6 bloques irregulares de 6 celdas.\n");
+        } else {
+            rules.append("- El tablero tiene 6 filas y 6 columnas, divididas en bloques de 2x3.\n");
+        }
+        rules.append("- Debes llenar las celdas vacías con números del 1 al 6.\n")
+                .append("- Cada fila, columna y bloque debe contener todos los números del 1 al 6 sin repetir.\n");
+        if (variant == Variant.DIAGONAL) {
+            rules.append("- Las dos diagonales, resaltadas en el tablero, también deben contener ")
+                    .append("todos los números del 1 al 6 sin repetir.\n");
+        }
+        if (variant.isKiller()) {
+            rules.append("- Las jaulas, marcadas con bordes punteados, no pueden repetir números ")
+                    .append("y sus celdas deben sumar el número indicado en su esquina.\n");
+        }
+        rules.append("\nInstrucciones:\n")
+                .append("- Haz clic en una celda vacía y escribe un número del 1 al 6.\n")
+                .append("- Si el número que ingresas es válido, se añadirá al tablero.\n")
+                .append("- Si el número no es valido, se resaltará de color rojo indicando que debes reemplazarlo\n")
+                .append("- Usa las ayudas disponibles si te quedas atascado.\n")
+                .append("- Completa el tablero siguiendo las reglas para ganar el juego.\n\n")
+                .append("¡Diviértete y buena suerte!");
+
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle("Reglas del Sudoku 6x6");
+        alert.setHeaderText("Cómo jugar al Sudoku 6x6");
+        alert.setContentText(rules.toString());
+        alert.showAndWait();
+    }
+
+    /**
+     * Handles the restart button action, resetting the game board and
+     * reinitializing it.
+     *
+     * @param event the ActionEvent triggered by the button.
+     * @throws IOException if an input or output error occurs.
+     */
+    @FXML
+    public void handleRestartButton(ActionEvent event) throws IOException {
+        applyLatest(BOARD_KEY, gameService.submit(model -> {
+            model.clearBoard();
+            model.initializeBoard();
+            model.setHelpUsed();
+            model.speculateHint();
+            return new BoardView(model.copyBoard(), model.getCages(), model.getGeneration());
+        }), view -> {
+            gridPane.getChildren().clear();
+            initializeBoard(view);
+            updateHelpLabel(0);
+            gridPane.setGridLinesVisible(true);
+        });
+    }
+
+
+    /**
+     * Handles the exit button action, terminating the current game stage.
+     * The game is closed on the model thread, which is then stopped.
+     *
+     * @param event the ActionEvent triggered by the button.
+     * @throws IOException if an input or output error occurs.
+     */
+    @FXML
+    public void handleExitButton(ActionEvent event) throws IOException {
+        eventSubscriber.cancel();
+        gameService.submit(model -> {
+            model.close();
+            return null;
+        }).whenComplete((ignored, error) -> gameService.shutdown());
+        GameStage.deletedInstance();
+    }
+
+    /**
+     * Snapshot of a freshly initialized board.
+     *
+     * @param board the board, with zeros for empty cells.
+     * @param cages the Killer cages of the board.
+     * @param generation the generation of the board.
+     */
+    private record BoardView(int[][] board, Cages cages, int generation) {
+    }
+
+    /**
+     * Result of a keystroke applied to the model: a number placed, or a cell
+     * cleared.
+     *
+     * @param accepted whether the number was placed on the board.
+     * @param boardFull whether the board is full after the move.
+     * @param gameOver whether the board is solved after the move.
+     * @param deadEnd the cell where the board reached a dead end, or -1 if none was found.
+     */
+    private record MoveOutcome(boolean accepted, boolean boardFull, boolean gameOver, int deadEnd) {
+    }
+
+    /**
+     * Result of a help request applied to the model.
+     *
+     * @param hint the hint that was placed, or null if none was placed.
+     * @param helpUsed the number of helps used after the request.
+     * @param boardFull whether the board is full after the request.
+     * @param gameOver whether the board is solved after the request.
+     * @param deadEnd the cell where the board reached a dead end, or -1 if none was found.
+     */
+    private record HintOutcome(Hint hint, int helpUsed, boolean boardFull, boolean gameOver, int deadEnd) {
+    }
+
+}
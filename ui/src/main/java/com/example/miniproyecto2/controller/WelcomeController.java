@@ -0,0 +1,65 @@
+package com.example.miniproyecto2.controller;
+
+import com.example.miniproyecto2.model.Game;
+import com.example.miniproyecto2.model.Variant;
+import com.example.miniproyecto2.view.GameStage;
+import com.example.miniproyecto2.view.ResourceCache;
+import com.example.miniproyecto2.view.WelcomeStage;
+import javafx.fxml.FXML;
+import javafx.scene.control.ChoiceBox;
+import javafx.scene.image.ImageView;
+import javafx.util.StringConverter;
+
+import java.io.IOException;
+
+/**
+ * Controller for the Welcome stage of the Sudoku application.
+ */
+public class WelcomeController {
+
+    @FXML
+    private ImageView backgroundImageView;
+
+    @FXML
+    private ImageView logoImageView;
+
+    @FXML
+    private ChoiceBox<Variant> variantChoiceBox;
+
+    /**
+     * Loads the images at their display size, fills the variant selector and
+     * selects the classic variant.
+     */
+    @FXML
+    public void initialize() {
+        backgroundImageView.setImage(ResourceCache.image("img/bg-welcome.jpg",
+                backgroundImageView.getFitWidth(), backgroundImageView.getFitHeight()));
+        logoImageView.setImage(ResourceCache.image("img/sudoku-welcome-logo.png",
+                logoImageView.getFitWidth(), logoImageView.getFitHeight()));
+        variantChoiceBox.getItems().setAll(Variant.values());
+        variantChoiceBox.setConverter(new StringConverter<>() {
+            @Override
+            public String toString(Variant variant) {
+                return variant == null ? "" : variant.getDisplayName();
+            }
+
+            @Override
+            public Variant fromString(String name) {
+                return null;
+            }
+        });
+        variantChoiceBox.setValue(Variant.CLASSIC);
+    }
+
+    /**
+     * Invoked when the user presses the "Play" button.
+     *
+     * @throws IOException if an input or output error occurs.
+     */
+    @FXML
+    public void handlePlayButton() throws IOException {
+        Game game = Game.withEmptyBoard(variantChoiceBox.getValue());
+        WelcomeStage.deletedInstance();
+        GameStage.getInstance().getGameController().setGame(game);
+    }
+}
@@ -4,7 +4,6 @@ import com.example.miniproyecto2.controller.GameController;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
-import javafx.scene.image.Image;
 import javafx.stage.Stage;
 
 import java.io.IOException;
@@ -29,11 +28,10 @@ public class GameStage extends Stage {
         Parent root = loader.load();
         gameController = loader.getController();
         Scene scene = new Scene(root);
+        scene.getStylesheets().add(ResourceCache.stylesheet("styles.css"));
         setScene(scene);
         setTitle("Sudoku!");
-        getIcons().add(new Image(String.valueOf(
-                getClass().getResource("/com/example/miniproyecto2/img/favicon.png"))
-        ));
+        getIcons().add(ResourceCache.image("img/favicon.png"));
         setResizable(false);
         show();
     }
@@ -0,0 +1,78 @@
+package com.example.miniproyecto2.view;
+
+import javafx.scene.image.Image;
+import javafx.scene.text.Font;
+
+import java.net.URL;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared cache of the images, fonts and stylesheets used by the stages and
+ * their controllers. Each image is decoded once, at the size it is displayed
+ * at, instead of being decoded at full resolution by every view that shows it
+ * and then scaled down on every frame.
+ */
+public final class ResourceCache {
+
+    private static final String ROOT = "/com/example/miniproyecto2/";
+
+    private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+    private static final Map<String, Font> FONTS = new ConcurrentHashMap<>();
+    private static final Map<String, String> STYLESHEETS = new ConcurrentHashMap<>();
+
+    private ResourceCache() {
+    }
+
+    /**
+     * Returns an image decoded at its full size.
+     *
+     * @param name the path of the image, relative to the resources of the application.
+     * @return the shared image.
+     */
+    public static Image image(String name) {
+        return IMAGES.computeIfAbsent(name, key -> new Image(url(key)));
+    }
+
+    /**
+     * Returns an image decoded to fit the given box, keeping its aspect
+     * ratio. Pass the same box as the {@code fitWidth} and {@code fitHeight}
+     * of the view that displays it.
+     *
+     * @param name the path of the image, relative to the resources of the application.
+     * @param width the width of the box.
+     * @param height the height of the box.
+     * @return the shared image.
+     */
+    public static Image image(String name, double width, double height) {
+        return IMAGES.computeIfAbsent(name + "@" + width + "x" + height,
+                key -> new Image(url(name), width, height, true, true));
+    }
+
+    /**
+     * Returns a font of the given family and size.
+     *
+     * @param family the font family.
+     * @param size the font size, in points.
+     * @return the shared font.
+     */
+    public static Font font(String family, double size) {
+        return FONTS.computeIfAbsent(family + "@" + size, key -> Font.font(family, size));
+    }
+
+    /**
+     * Returns the URL of a stylesheet, as expected by {@code Scene.getStylesheets()}.
+     *
+     * @param name the path of the stylesheet, relative to the resources of the application.
+     * @return the external form of the stylesheet URL.
+     */
+    public static String stylesheet(String name) {
+        return STYLESHEETS.computeIfAbsent(name, ResourceCache::url);
+    }
+
+    private static String url(String name) {
+        URL url = Objects.requireNonNull(ResourceCache.class.getResource(ROOT + name), "Missing resource: " + name);
+        return url.toExternalForm();
+    }
+}
@@ -3,7 +3,6 @@ package com.example.miniproyecto2.view;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
-import javafx.scene.image.Image;
 import javafx.stage.Stage;
 
 import java.io.IOException;
@@ -26,11 +25,10 @@ public class WelcomeStage extends Stage {
         ));
         Parent root = loader.load();
         Scene scene = new Scene(root);
+        scene.getStylesheets().add(ResourceCache.stylesheet("styles.css"));
         setScene(scene);
         setTitle("Sudoku!");
-        getIcons().add(new Image(String.valueOf(
-                getClass().getResource("/com/example/miniproyecto2/img/favicon.png"))
-        ));
+        getIcons().add(ResourceCache.image("img/favicon.png"));
         setResizable(false);
         show();
     }
@@ -1,4 +1,5 @@
 module com.example.miniproyecto2 {
+    requires com.example.miniproyecto2.core;
     requires javafx.controls;
     requires javafx.fxml;
 
@@ -7,4 +8,4 @@ module com.example.miniproyecto2 {
     opens com.example.miniproyecto2.controller to javafx.fxml;
 
     exports com.example.miniproyecto2;
-}
\ No newline at end of file
+}